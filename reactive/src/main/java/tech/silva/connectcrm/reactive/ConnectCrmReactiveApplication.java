@@ -0,0 +1,13 @@
+package tech.silva.connectcrm.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ConnectCrmReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ConnectCrmReactiveApplication.class, args);
+	}
+
+}
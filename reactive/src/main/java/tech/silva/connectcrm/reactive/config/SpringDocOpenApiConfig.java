@@ -0,0 +1,39 @@
+package tech.silva.connectcrm.reactive.config;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SpringDocOpenApiConfig {
+
+    @Bean
+    public OpenAPI openAPI(){
+        return new OpenAPI()
+                .components(new Components().addSecuritySchemes("security", securityScheme()))
+                .info(
+                        new Info()
+                                .title("Connect CRM Reactive")
+                                .description("Reactive leads and clients API of ConnectCRM, serving the same contracts " +
+                                        "as the main application from a WebFlux and R2DBC stack. Tokens are issued " +
+                                        "by the main application's /api/v1/auth.")
+                                .version("v1")
+                                .contact(new Contact().name("Pedro Henrique").email("pedrohenriquefdasilva14@gmail.com"))
+                );
+    }
+
+    private SecurityScheme securityScheme() {
+        return new SecurityScheme()
+                .description("Please enter a valid bearer token to proceed.")
+                .type(SecurityScheme.Type.HTTP)
+                .in(SecurityScheme.In.HEADER)
+                .scheme("bearer")
+                .bearerFormat("JWT")
+                .name("security");
+    }
+
+}
@@ -0,0 +1,22 @@
+package tech.silva.connectcrm.reactive.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+@EnableR2dbcAuditing
+@Configuration
+public class SpringR2dbcAuditingConfig implements ReactiveAuditorAware<String> {
+
+    @Override
+    public Mono<String> getCurrentAuditor() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .map(Authentication::getName);
+    }
+}
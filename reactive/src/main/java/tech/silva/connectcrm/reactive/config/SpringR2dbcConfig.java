@@ -0,0 +1,65 @@
+package tech.silva.connectcrm.reactive.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import tech.silva.connectcrm.reactive.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.reactive.models.Client;
+import tech.silva.connectcrm.reactive.models.Lead;
+import tech.silva.connectcrm.reactive.models.OutboxEvent;
+import tech.silva.connectcrm.reactive.models.Tombstone;
+import tech.silva.connectcrm.reactive.repositories.SequenceIdAllocator;
+import tech.silva.connectcrm.reactive.repositories.SequenceIdCallback;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class SpringR2dbcConfig {
+
+    /**
+     * Must match the {@code allocationSize} of the JPA entities' sequence generators.
+     */
+    public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory),
+                List.of(new LeadResponseReader(), new ClientResponseReader()));
+    }
+
+    @Bean
+    public SequenceIdCallback sequenceIdCallback(R2dbcMappingContext mappingContext, DatabaseClient databaseClient,
+                                                 ReactiveTransactionManager transactionManager) {
+        return new SequenceIdCallback(mappingContext, Map.of(
+                Lead.class, new SequenceIdAllocator("lead_seq", SEQUENCE_ALLOCATION_SIZE, databaseClient, transactionManager),
+                Client.class, new SequenceIdAllocator("client_seq", SEQUENCE_ALLOCATION_SIZE, databaseClient, transactionManager),
+                Tombstone.class, new SequenceIdAllocator("tombstone_seq", SEQUENCE_ALLOCATION_SIZE, databaseClient, transactionManager),
+                OutboxEvent.class, new SequenceIdAllocator("outbox_event_seq", SEQUENCE_ALLOCATION_SIZE, databaseClient, transactionManager)));
+    }
+
+    @ReadingConverter
+    static class LeadResponseReader implements Converter<Row, LeadResponseDTO> {
+        @Override
+        public LeadResponseDTO convert(Row row) {
+            return LeadResponseDTO.fromRow(row);
+        }
+    }
+
+    @ReadingConverter
+    static class ClientResponseReader implements Converter<Row, ClientResponseDTO> {
+        @Override
+        public ClientResponseDTO convert(Row row) {
+            return ClientResponseDTO.fromRow(row);
+        }
+    }
+}
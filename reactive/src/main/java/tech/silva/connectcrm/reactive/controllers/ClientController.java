@@ -0,0 +1,179 @@
+package tech.silva.connectcrm.reactive.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.dtos.client.ClientCreateDTO;
+import tech.silva.connectcrm.reactive.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.client.ClientUpdateDTO;
+import tech.silva.connectcrm.reactive.dtos.page.CursorPageDTO;
+import tech.silva.connectcrm.reactive.enums.ExportFormat;
+import tech.silva.connectcrm.reactive.enums.Role;
+import tech.silva.connectcrm.reactive.export.ExportLines;
+import tech.silva.connectcrm.reactive.jwt.JwtUserDetails;
+import tech.silva.connectcrm.reactive.services.ClientService;
+
+import java.time.Instant;
+
+/**
+ * Same contract as the servlet application's {@code ClientController}.
+ */
+@RestController
+@RequestMapping("/api/v1/clients")
+@Tag(name = "Clients", description = "Operations related to client management")
+public class ClientController {
+
+    private final ClientService clientService;
+    private final ObjectMapper objectMapper;
+
+    public ClientController(ClientService clientService, ObjectMapper objectMapper) {
+        this.clientService = clientService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+            summary = "Register a new client",
+            description = "Creates a new client associated with the authenticated user",
+            security = @SecurityRequirement(name = "security")
+    )
+    @PostMapping
+    public Mono<ResponseEntity<ClientResponseDTO>> saveClient(@RequestBody @Valid ClientCreateDTO clientDTO,
+                                                          @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return clientService.saveClient(ClientCreateDTO.toClient(clientDTO), userDetails.getId())
+                .map(client -> ResponseEntity.status(HttpStatus.CREATED).body(client));
+    }
+
+    @Operation(
+            summary = "List all clients",
+            description = "Returns a page of all clients ordered by id (admin and manager only). " +
+                    "Pass the returned nextCursor to fetch the following page",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
+    public Mono<ResponseEntity<CursorPageDTO<ClientResponseDTO>>> getAllClient(@RequestParam(required = false) String cursor,
+                                                                       @RequestParam(required = false) Integer size) {
+        int pageSize = CursorPageDTO.boundedSize(size);
+        return clientService.listAllClients(CursorPageDTO.decode(cursor), pageSize)
+                .map(clients -> !clients.isEmpty()
+                        ? ResponseEntity.ok().body(CursorPageDTO.of(clients, pageSize, ClientResponseDTO::id))
+                        : ResponseEntity.noContent().build());
+    }
+
+    @Operation(
+            summary = "Stream all clients",
+            description = "Streams every client after the optional cursor, ordered by id, as NDJSON (admin and manager only). " +
+                    "Rows are read from the database as the client consumes them",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
+    public Flux<String> streamAll(@RequestParam(required = false) String cursor) {
+        return ExportLines.ndjson(clientService.streamClients(CursorPageDTO.decode(cursor)), objectMapper);
+    }
+
+    @Operation(
+            summary = "List clients from authenticated seller",
+            description = "Returns a page of the clients associated with the authenticated seller. " +
+                    "Pass the returned nextCursor to fetch the following page",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping("/me")
+    @PreAuthorize("hasRole('SELLER')")
+    public Mono<ResponseEntity<CursorPageDTO<ClientResponseDTO>>> getMyClients(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(required = false) Integer size,
+                                                                           @AuthenticationPrincipal JwtUserDetails userDetails,
+                                                                           ServerWebExchange exchange) {
+        int pageSize = CursorPageDTO.boundedSize(size);
+        Long afterId = CursorPageDTO.decode(cursor);
+        return clientService.getMyClientsVersion(userDetails.getId())
+                .filter(version -> !exchange.checkNotModified(version.eTag(userDetails.getId(), cursor, pageSize),
+                        Instant.ofEpochMilli(version.lastModified())))
+                .flatMap(version -> clientService.getMyClients(userDetails.getId(), afterId, pageSize))
+                .map(clients -> !clients.isEmpty()
+                        ? ResponseEntity.ok().body(CursorPageDTO.of(clients, pageSize, ClientResponseDTO::id))
+                        : ResponseEntity.noContent().build());
+    }
+
+    @Operation(
+            summary = "Stream clients from authenticated seller",
+            description = "Streams every client of the authenticated seller after the optional cursor, ordered by id, as NDJSON",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping(value = "/me", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('SELLER')")
+    public Flux<String> streamMyClients(@RequestParam(required = false) String cursor,
+                                        @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return ExportLines.ndjson(clientService.streamMyClients(userDetails.getId(), CursorPageDTO.decode(cursor)),
+                objectMapper);
+    }
+
+    @Operation(
+            summary = "Export all clients",
+            description = "Streams every client as NDJSON (one JSON document per line) or CSV (admin and manager only)",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
+    public Mono<ResponseEntity<Flux<String>>> exportClients(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        Flux<String> body = ExportLines.of(clientService.streamClients(0L), format, objectMapper,
+                ClientResponseDTO.CSV_HEADER, ClientResponseDTO::toCsvRow);
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=clients." + format.getExtension())
+                .body(body));
+    }
+
+    @Operation(
+            summary = "Get client by ID",
+            description = "Returns a specific client if it belongs to the authenticated user or user has permission",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ClientResponseDTO>> getClientById(@PathVariable Long id,
+                                                              @AuthenticationPrincipal JwtUserDetails userDetails,
+                                                              ServerWebExchange exchange) {
+        Role role = Role.valueOf(userDetails.getRole());
+        return clientService.getClientVersion(id, userDetails.getId(), role)
+                .filter(version -> !exchange.checkNotModified(version.eTag(), Instant.ofEpochMilli(version.lastModified())))
+                .flatMap(version -> clientService.getClientById(id, userDetails.getId(), role))
+                .map(client -> ResponseEntity.ok().body(client));
+    }
+
+    @Operation(
+            summary = "Update client",
+            description = "Updates a client if it belongs to the authenticated user",
+            security = @SecurityRequirement(name = "security")
+    )
+    @PutMapping
+    public Mono<ResponseEntity<ClientResponseDTO>> updateClient(@RequestBody ClientUpdateDTO clientDTO,
+                                                            @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return clientService.updateClient(ClientUpdateDTO.toClient(clientDTO), userDetails.getId())
+                .map(client -> ResponseEntity.ok().body(client));
+    }
+
+    @Operation(
+            summary = "Delete client",
+            description = "Deletes a client if it belongs to the authenticated user",
+            security = @SecurityRequirement(name = "security")
+    )
+    @DeleteMapping("{id}")
+    public Mono<ResponseEntity<Void>> deleteClient(@PathVariable Long id,
+                                                 @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return clientService.deleteClient(id, userDetails.getId())
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok().build()));
+    }
+
+}
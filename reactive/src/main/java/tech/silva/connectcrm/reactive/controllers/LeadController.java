@@ -0,0 +1,201 @@
+package tech.silva.connectcrm.reactive.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadCreateDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadStatusUpdateDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadStatusUpdateResultDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadUpdateDTO;
+import tech.silva.connectcrm.reactive.dtos.page.CursorPageDTO;
+import tech.silva.connectcrm.reactive.enums.ExportFormat;
+import tech.silva.connectcrm.reactive.enums.Role;
+import tech.silva.connectcrm.reactive.export.ExportLines;
+import tech.silva.connectcrm.reactive.jwt.JwtUserDetails;
+import tech.silva.connectcrm.reactive.services.LeadService;
+
+import java.time.Instant;
+
+/**
+ * Same contract as the servlet application's {@code LeadController} for everything backed by the
+ * leads table. Import, search and the live feed stay on the servlet application, which owns the
+ * search index and the feed subscribers; writes made here reach both through the outbox, which
+ * every servlet instance tails.
+ */
+@RestController
+@RequestMapping("/api/v1/leads")
+@Tag(name = "Leads", description = "Operations related to lead management")
+public class LeadController {
+
+    private final LeadService leadService;
+    private final ObjectMapper objectMapper;
+
+    public LeadController(LeadService leadService, ObjectMapper objectMapper) {
+        this.leadService = leadService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+            summary = "Register a new lead",
+            description = "Creates a new lead associated with the authenticated user",
+            security = @SecurityRequirement(name = "security")
+    )
+    @PostMapping
+    public Mono<ResponseEntity<LeadResponseDTO>> saveLead(@RequestBody @Valid LeadCreateDTO leadDTO,
+                                                          @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return leadService.saveLead(LeadCreateDTO.toLead(leadDTO), userDetails.getId())
+                .map(lead -> ResponseEntity.status(HttpStatus.CREATED).body(lead));
+    }
+
+    @Operation(
+            summary = "List all leads",
+            description = "Returns a page of all leads ordered by id (admin and manager only). " +
+                    "Pass the returned nextCursor to fetch the following page",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
+    public Mono<ResponseEntity<CursorPageDTO<LeadResponseDTO>>> getAll(@RequestParam(required = false) String cursor,
+                                                                       @RequestParam(required = false) Integer size) {
+        int pageSize = CursorPageDTO.boundedSize(size);
+        return leadService.listAllLeads(CursorPageDTO.decode(cursor), pageSize)
+                .map(leads -> !leads.isEmpty()
+                        ? ResponseEntity.ok().body(CursorPageDTO.of(leads, pageSize, LeadResponseDTO::id))
+                        : ResponseEntity.noContent().build());
+    }
+
+    @Operation(
+            summary = "Stream all leads",
+            description = "Streams every lead after the optional cursor, ordered by id, as NDJSON (admin and manager only). " +
+                    "Rows are read from the database as the client consumes them",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
+    public Flux<String> streamAll(@RequestParam(required = false) String cursor) {
+        return ExportLines.ndjson(leadService.streamLeads(CursorPageDTO.decode(cursor)), objectMapper);
+    }
+
+    @Operation(
+            summary = "List leads from authenticated seller",
+            description = "Returns a page of the leads associated with the authenticated seller. " +
+                    "Pass the returned nextCursor to fetch the following page",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping("/me")
+    @PreAuthorize("hasRole('SELLER')")
+    public Mono<ResponseEntity<CursorPageDTO<LeadResponseDTO>>> getMyLeads(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(required = false) Integer size,
+                                                                           @AuthenticationPrincipal JwtUserDetails userDetails,
+                                                                           ServerWebExchange exchange) {
+        int pageSize = CursorPageDTO.boundedSize(size);
+        Long afterId = CursorPageDTO.decode(cursor);
+        return leadService.getMyLeadsVersion(userDetails.getId())
+                .filter(version -> !exchange.checkNotModified(version.eTag(userDetails.getId(), cursor, pageSize),
+                        Instant.ofEpochMilli(version.lastModified())))
+                .flatMap(version -> leadService.getMyLeads(userDetails.getId(), afterId, pageSize))
+                .map(leads -> !leads.isEmpty()
+                        ? ResponseEntity.ok().body(CursorPageDTO.of(leads, pageSize, LeadResponseDTO::id))
+                        : ResponseEntity.noContent().build());
+    }
+
+    @Operation(
+            summary = "Stream leads from authenticated seller",
+            description = "Streams every lead of the authenticated seller after the optional cursor, ordered by id, as NDJSON",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping(value = "/me", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('SELLER')")
+    public Flux<String> streamMyLeads(@RequestParam(required = false) String cursor,
+                                      @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return ExportLines.ndjson(leadService.streamMyLeads(userDetails.getId(), CursorPageDTO.decode(cursor)),
+                objectMapper);
+    }
+
+    @Operation(
+            summary = "Export all leads",
+            description = "Streams every lead as NDJSON (one JSON document per line) or CSV (admin and manager only)",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
+    public Mono<ResponseEntity<Flux<String>>> exportLeads(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        Flux<String> body = ExportLines.of(leadService.streamLeads(0L), format, objectMapper,
+                LeadResponseDTO.CSV_HEADER, LeadResponseDTO::toCsvRow);
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=leads." + format.getExtension())
+                .body(body));
+    }
+
+    @Operation(
+            summary = "Get lead by ID",
+            description = "Returns a specific lead if it belongs to the authenticated user or user has permission",
+            security = @SecurityRequirement(name = "security")
+    )
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<LeadResponseDTO>> getLeadsById(@PathVariable Long id,
+                                                              @AuthenticationPrincipal JwtUserDetails userDetails,
+                                                              ServerWebExchange exchange) {
+        Role role = Role.valueOf(userDetails.getRole());
+        return leadService.getLeadVersion(id, userDetails.getId(), role)
+                .filter(version -> !exchange.checkNotModified(version.eTag(), Instant.ofEpochMilli(version.lastModified())))
+                .flatMap(version -> leadService.getLeadById(id, userDetails.getId(), role))
+                .map(lead -> ResponseEntity.ok().body(lead));
+    }
+
+    @Operation(
+            summary = "Update lead",
+            description = "Updates a lead if it belongs to the authenticated user",
+            security = @SecurityRequirement(name = "security")
+    )
+    @PutMapping
+    @PreAuthorize("hasRole('SELLER')")
+    public Mono<ResponseEntity<LeadResponseDTO>> updateLead(@RequestBody @Valid LeadUpdateDTO leadDTO,
+                                                            @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return leadService.updateLead(LeadUpdateDTO.toLead(leadDTO), userDetails.getId())
+                .map(lead -> ResponseEntity.ok().body(lead));
+    }
+
+    @Operation(
+            summary = "Bulk change lead status",
+            description = "Moves a set of leads to a new status in one statement. Sellers can only change their own leads, " +
+                    "admins and managers any lead. Returns how many leads actually changed",
+            security = @SecurityRequirement(name = "security")
+    )
+    @PatchMapping("/status")
+    public Mono<ResponseEntity<LeadStatusUpdateResultDTO>> updateStatus(@RequestBody @Valid LeadStatusUpdateDTO statusDTO,
+                                                                        @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return leadService.updateStatus(statusDTO.ids(), statusDTO.status(),
+                        userDetails.getId(), Role.valueOf(userDetails.getRole()))
+                .map(updated -> ResponseEntity.ok().body(
+                        new LeadStatusUpdateResultDTO(statusDTO.status(), statusDTO.ids().size(), updated)));
+    }
+
+    @Operation(
+            summary = "Delete lead",
+            description = "Deletes a lead if it belongs to the authenticated user",
+            security = @SecurityRequirement(name = "security")
+    )
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('SELLER')")
+    public Mono<ResponseEntity<Void>> deleteLead(@PathVariable Long id,
+                                                 @AuthenticationPrincipal JwtUserDetails userDetails) {
+        return leadService.deleteLead(id, userDetails.getId())
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok().build()));
+    }
+
+}
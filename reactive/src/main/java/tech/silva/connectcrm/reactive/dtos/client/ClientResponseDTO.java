@@ -0,0 +1,62 @@
+package tech.silva.connectcrm.reactive.dtos.client;
+
+import io.r2dbc.spi.Row;
+import tech.silva.connectcrm.reactive.dtos.user.UserResponseDTO;
+import tech.silva.connectcrm.reactive.enums.Role;
+import tech.silva.connectcrm.reactive.models.AppUser;
+import tech.silva.connectcrm.reactive.models.Client;
+
+import java.util.Arrays;
+import java.util.List;
+
+public record ClientResponseDTO(
+        Long id,
+        String name,
+        String email,
+        String phone,
+        String document,
+        String address,
+        UserResponseDTO user
+) {
+    public static final List<String> CSV_HEADER =
+            List.of("id", "name", "email", "phone", "document", "address", "userId", "userName", "userEmail");
+
+    public static ClientResponseDTO toClientDto(Client client, AppUser owner){
+        return new ClientResponseDTO(
+                client.getId(),
+                client.getName(),
+                client.getEmail(),
+                client.getPhone(),
+                client.getDocument(),
+                client.getAddress(),
+                UserResponseDTO.toUserDto(owner)
+        );
+    }
+
+    /**
+     * Maps one row of the client/owner join selected by {@code IClientRepository}, with the owner
+     * columns aliased {@code user_id}, {@code user_name}, {@code user_email} and {@code user_role}.
+     */
+    public static ClientResponseDTO fromRow(Row row){
+        return new ClientResponseDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                row.get("phone", String.class),
+                row.get("document", String.class),
+                row.get("address", String.class),
+                new UserResponseDTO(
+                        row.get("user_id", Long.class),
+                        row.get("user_name", String.class),
+                        row.get("user_email", String.class),
+                        Role.valueOf(row.get("user_role", String.class)))
+        );
+    }
+
+    public static List<Object> toCsvRow(ClientResponseDTO client){
+        return Arrays.asList(
+                client.id, client.name, client.email, client.phone, client.document, client.address,
+                client.user.id(), client.user.name(), client.user.email()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package tech.silva.connectcrm.reactive.dtos.lead;
+
+import io.r2dbc.spi.Row;
+import tech.silva.connectcrm.reactive.dtos.user.UserResponseDTO;
+import tech.silva.connectcrm.reactive.enums.Role;
+import tech.silva.connectcrm.reactive.enums.StatusLead;
+import tech.silva.connectcrm.reactive.models.AppUser;
+import tech.silva.connectcrm.reactive.models.Lead;
+
+import java.util.Arrays;
+import java.util.List;
+
+public record LeadResponseDTO(
+        Long id,
+        String name,
+        String email,
+        String phone,
+        String origin,
+        StatusLead status,
+        UserResponseDTO user
+) {
+    public static final List<String> CSV_HEADER =
+            List.of("id", "name", "email", "phone", "origin", "status", "userId", "userName", "userEmail");
+
+    public static LeadResponseDTO toLeadDto(Lead lead, AppUser owner){
+        return new LeadResponseDTO(
+                lead.getId(),
+                lead.getName(),
+                lead.getEmail(),
+                lead.getPhone(),
+                lead.getOrigin(),
+                lead.getStatus(),
+                UserResponseDTO.toUserDto(owner)
+        );
+    }
+
+    /**
+     * Maps one row of the lead/owner join selected by {@code ILeadRepository}, with the owner
+     * columns aliased {@code user_id}, {@code user_name}, {@code user_email} and {@code user_role}.
+     */
+    public static LeadResponseDTO fromRow(Row row){
+        return new LeadResponseDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                row.get("phone", String.class),
+                row.get("origin", String.class),
+                StatusLead.valueOf(row.get("status", String.class)),
+                new UserResponseDTO(
+                        row.get("user_id", Long.class),
+                        row.get("user_name", String.class),
+                        row.get("user_email", String.class),
+                        Role.valueOf(row.get("user_role", String.class)))
+        );
+    }
+
+    public static List<Object> toCsvRow(LeadResponseDTO lead){
+        return Arrays.asList(
+                lead.id, lead.name, lead.email, lead.phone, lead.origin, lead.status,
+                lead.user.id(), lead.user.name(), lead.user.email()
+        );
+    }
+}
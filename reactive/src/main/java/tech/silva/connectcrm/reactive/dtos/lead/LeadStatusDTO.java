@@ -0,0 +1,6 @@
+package tech.silva.connectcrm.reactive.dtos.lead;
+
+import tech.silva.connectcrm.reactive.enums.StatusLead;
+
+public record LeadStatusDTO(Long id, Long ownerId, StatusLead status) {
+}
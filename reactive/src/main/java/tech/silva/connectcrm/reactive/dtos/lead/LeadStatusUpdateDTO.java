@@ -0,0 +1,16 @@
+package tech.silva.connectcrm.reactive.dtos.lead;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import tech.silva.connectcrm.reactive.enums.StatusLead;
+
+import java.util.List;
+
+public record LeadStatusUpdateDTO(
+        @NotEmpty @Size(max = 5000)
+        List<@NotNull Long> ids,
+        @NotNull
+        StatusLead status
+) {
+}
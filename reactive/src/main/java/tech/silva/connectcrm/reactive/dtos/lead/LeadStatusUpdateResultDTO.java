@@ -0,0 +1,10 @@
+package tech.silva.connectcrm.reactive.dtos.lead;
+
+import tech.silva.connectcrm.reactive.enums.StatusLead;
+
+public record LeadStatusUpdateResultDTO(
+        StatusLead status,
+        int requested,
+        int updated
+) {
+}
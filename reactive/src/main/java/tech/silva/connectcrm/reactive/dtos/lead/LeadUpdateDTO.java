@@ -0,0 +1,29 @@
+package tech.silva.connectcrm.reactive.dtos.lead;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import tech.silva.connectcrm.reactive.models.Lead;
+
+public record LeadUpdateDTO (
+        @NotNull
+        Long id,
+        @NotBlank
+        String name,
+        @NotBlank @Email(message = "email format is invalid", regexp = "^[a-z0-9.+-]+@[a-z0-9.-]+\\.[a-z]{2,}$")
+        String email,
+        @NotBlank
+        String phone,
+        @NotBlank
+        String origin
+) {
+    public static Lead toLead(LeadUpdateDTO leadDTO){
+        return new Lead(
+                leadDTO.id,
+                leadDTO.name,
+                leadDTO.email,
+                leadDTO.phone,
+                leadDTO.origin
+        );
+    }
+}
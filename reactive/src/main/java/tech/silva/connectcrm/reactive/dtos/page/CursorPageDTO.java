@@ -0,0 +1,62 @@
+package tech.silva.connectcrm.reactive.dtos.page;
+
+import tech.silva.connectcrm.reactive.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is an opaque token that points
+ * right after the last row of this page, or {@code null} when there are no more rows.
+ */
+public record CursorPageDTO<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+) {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    /**
+     * Builds the page from rows fetched with a limit of {@code size + 1}: the extra row only
+     * tells us that another page exists and is not returned.
+     */
+    public static <T> CursorPageDTO<T> of(List<T> rows, int size, Function<T, Long> idExtractor) {
+        if (rows.size() <= size)
+            return new CursorPageDTO<>(rows, rows.size(), null);
+
+        List<T> content = rows.subList(0, size);
+        return new CursorPageDTO<>(content, size, encode(idExtractor.apply(content.get(size - 1))));
+    }
+
+    public static int boundedSize(Integer size) {
+        if (size == null || size < 1)
+            return DEFAULT_PAGE_SIZE;
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the id the next page starts after, {@code 0} for the first page.
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return 0L;
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(CURSOR_PREFIX))
+                throw new InvalidCursorException(String.format("Cursor %s is not valid", cursor));
+            return Long.valueOf(value.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(String.format("Cursor %s is not valid", cursor));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package tech.silva.connectcrm.reactive.dtos.user;
+
+import tech.silva.connectcrm.reactive.enums.Role;
+import tech.silva.connectcrm.reactive.models.AppUser;
+
+public record UserResponseDTO (
+         Long id,
+         String name,
+         String email,
+         Role role
+){
+    public static UserResponseDTO toUserDto(AppUser user){
+        return new UserResponseDTO(
+            user.getId(),
+            user.getName(),
+            user.getEmail(),
+            user.getRole()
+        );
+    }
+}
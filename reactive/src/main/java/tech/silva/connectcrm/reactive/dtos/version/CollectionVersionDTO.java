@@ -0,0 +1,31 @@
+package tech.silva.connectcrm.reactive.dtos.version;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Version of a set of leads or clients from one {@code COUNT}/{@code MAX(modifiedAt)} aggregate.
+ * Any insert or update moves the max and any delete moves the count, so the pair changes whenever
+ * the set does.
+ */
+public record CollectionVersionDTO(Long count, LocalDateTime maxModifiedAt) {
+
+    /**
+     * Strong ETag for one representation of the set. {@code parts} must hold everything else the
+     * body depends on (owner, cursor, page size) so different pages never share a tag.
+     */
+    public String eTag(Object... parts) {
+        StringBuilder key = new StringBuilder().append(count).append('|').append(lastModified());
+        for (Object part : parts)
+            key.append('|').append(part);
+        return DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Epoch millis of the newest {@code modifiedAt}, or -1 for an empty set. */
+    public long lastModified() {
+        return maxModifiedAt == null ? -1 : maxModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
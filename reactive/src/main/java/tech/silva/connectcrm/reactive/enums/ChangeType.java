@@ -0,0 +1,5 @@
+package tech.silva.connectcrm.reactive.enums;
+
+public enum ChangeType {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,5 @@
+package tech.silva.connectcrm.reactive.enums;
+
+public enum RecordType {
+    LEAD, CLIENT
+}
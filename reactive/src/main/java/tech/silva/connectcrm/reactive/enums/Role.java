@@ -0,0 +1,5 @@
+package tech.silva.connectcrm.reactive.enums;
+
+public enum Role {
+    ROLE_ADMIN, ROLE_SELLER, ROLE_MANAGER
+}
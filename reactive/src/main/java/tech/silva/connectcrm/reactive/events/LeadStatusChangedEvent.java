@@ -0,0 +1,15 @@
+package tech.silva.connectcrm.reactive.events;
+
+import tech.silva.connectcrm.reactive.enums.StatusLead;
+
+/**
+ * Outbox payload of a lead moved by a bulk status change, with the same shape as the servlet
+ * application's event so consumers cannot tell which side wrote it.
+ */
+public record LeadStatusChangedEvent(
+        Long leadId,
+        Long ownerId,
+        StatusLead previousStatus,
+        StatusLead status
+) {
+}
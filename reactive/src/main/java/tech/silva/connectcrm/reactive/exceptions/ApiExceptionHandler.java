@@ -0,0 +1,93 @@
+package tech.silva.connectcrm.reactive.exceptions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Same statuses and error body as the servlet application's handler, so clients cannot tell which
+ * stack answered.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    public ApiExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ExceptionHandler(UniqueUserViolationException.class)
+    public ResponseEntity<ErrorMessage> usernameUniqueViolationException(RuntimeException ex, ServerHttpRequest request) {
+        return error(ex, request, HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ErrorMessage> entityNotFoundException(RuntimeException ex, ServerHttpRequest request) {
+        return error(ex, request, HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorMessage> webExchangeBindException(WebExchangeBindException ex, ServerHttpRequest request) {
+        countError(ex, HttpStatus.UNPROCESSABLE_ENTITY);
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.UNPROCESSABLE_ENTITY, "Campo(s) inválidos", ex.getBindingResult()));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorMessage> accessDeniedException(RuntimeException ex, ServerHttpRequest request) {
+        return error(ex, request, HttpStatus.FORBIDDEN, ex.getMessage());
+    }
+
+    @ExceptionHandler(EntityNotAvailableForViewException.class)
+    public ResponseEntity<ErrorMessage> entityNotAvailableForViewException(RuntimeException ex, ServerHttpRequest request) {
+        return error(ex, request, HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorMessage> invalidRequestInputException(RuntimeException ex, ServerHttpRequest request) {
+        return error(ex, request, HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    /**
+     * Unreadable bodies, unknown enum values and the like, which WebFlux reports with their own
+     * status.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorMessage> responseStatusException(ResponseStatusException ex, ServerHttpRequest request) {
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        return error(ex, request, status, ex.getReason());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorMessage> internalServerErrorException(Exception ex, ServerHttpRequest request) {
+        return error(ex, request, HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+    }
+
+    private ResponseEntity<ErrorMessage> error(Exception ex, ServerHttpRequest request, HttpStatus status, String message) {
+        countError(ex, status);
+        return ResponseEntity
+                .status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, status, message));
+    }
+
+    /**
+     * {@code connectcrm.api.errors}: handled exceptions by type and response status.
+     */
+    private void countError(Exception ex, HttpStatus status) {
+        meterRegistry.counter("connectcrm.api.errors",
+                        "exception", ex.getClass().getSimpleName(),
+                        "status", String.valueOf(status.value()))
+                .increment();
+    }
+}
@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.reactive.exceptions;
+
+public class EntityNotAvailableForViewException extends RuntimeException {
+    public EntityNotAvailableForViewException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.reactive.exceptions;
+
+public class EntityNotFoundException extends RuntimeException {
+    public EntityNotFoundException(String message) {
+        super(message);
+    }
+}
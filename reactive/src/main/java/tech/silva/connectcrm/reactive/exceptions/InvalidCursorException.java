@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.reactive.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
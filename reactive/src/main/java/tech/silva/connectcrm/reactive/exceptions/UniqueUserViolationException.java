@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.reactive.exceptions;
+
+public class UniqueUserViolationException extends RuntimeException {
+    public UniqueUserViolationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+package tech.silva.connectcrm.reactive.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
+import tech.silva.connectcrm.reactive.enums.ExportFormat;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Turns a stream of export rows into the lines of the response body, one JSON document per line
+ * (NDJSON) or CSV with a header, in the same format as the servlet application's
+ * {@code ExportWriter}. Each row is encoded when the response asks for it, so the body is written
+ * at the pace the client reads it.
+ */
+public final class ExportLines {
+
+    private ExportLines() {
+    }
+
+    public static <T> Flux<String> of(Flux<T> rows, ExportFormat format, ObjectMapper objectMapper,
+                                      List<String> csvHeader, Function<T, List<Object>> csvRow) {
+        if (format == ExportFormat.CSV)
+            return Flux.concat(Flux.just(csvLine(csvHeader)), rows.map(row -> csvLine(csvRow.apply(row))));
+        return ndjson(rows, objectMapper);
+    }
+
+    /**
+     * Encodes each row as one line of NDJSON. The stream endpoints return these lines instead of the
+     * rows themselves: WebFlux flushes a streaming media type element by element, and when the client
+     * goes away mid-stream the buffers it had already encoded but not yet written are never released.
+     * Plain lines are written as one body whose unsent buffers the server releases on cancel.
+     */
+    public static <T> Flux<String> ndjson(Flux<T> rows, ObjectMapper objectMapper) {
+        return rows.map(row -> jsonLine(objectMapper, row));
+    }
+
+    private static String jsonLine(ObjectMapper objectMapper, Object row) {
+        try {
+            return objectMapper.writeValueAsString(row) + '\n';
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String csvLine(List<?> values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0)
+                line.append(',');
+            line.append(escapeCsv(values.get(i)));
+        }
+        return line.append("\r\n").toString();
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null)
+            return "";
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0)
+            return text;
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
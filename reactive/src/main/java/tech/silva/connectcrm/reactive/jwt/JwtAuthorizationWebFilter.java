@@ -0,0 +1,62 @@
+package tech.silva.connectcrm.reactive.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Reactive counterpart of the servlet application's {@code JwtAuthorizationFilter}. A valid bearer
+ * token puts its principal in the reactive security context for the rest of the chain; a missing
+ * or invalid one leaves the exchange anonymous and the authorization rules decide.
+ */
+public class JwtAuthorizationWebFilter implements WebFilter {
+
+    private final JwtUserDetailsService detailsService;
+
+    public JwtAuthorizationWebFilter(JwtUserDetailsService detailsService) {
+        this.detailsService = detailsService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final String token = exchange.getRequest().getHeaders().getFirst(JwtUtils.JWT_AUTHORIZATION);
+        if (token == null || !token.startsWith(JwtUtils.JWT_BEARER))
+            return chain.filter(exchange);
+
+        Claims claims = JwtUtils.verify(token);
+        if (claims == null)
+            return chain.filter(exchange);
+
+        return principal(claims)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(userDetails -> userDetails.isEmpty()
+                        ? chain.filter(exchange)
+                        : chain.filter(exchange).contextWrite(
+                                ReactiveSecurityContextHolder.withAuthentication(toAuthentication(userDetails.get()))));
+    }
+
+    /**
+     * Tokens carry the user id and role, so the principal normally comes straight from the verified
+     * claims without touching the database. Tokens issued before those claims existed still fall
+     * back to loading the user by email.
+     */
+    private Mono<JwtUserDetails> principal(Claims claims) {
+        JwtUserDetails userDetails = JwtUtils.toUserDetails(claims);
+        if (userDetails == null)
+            return detailsService.findByUsername(claims.getSubject());
+        return detailsService.isStillValid(userDetails)
+                .filter(valid -> valid)
+                .map(valid -> userDetails);
+    }
+
+    private UsernamePasswordAuthenticationToken toAuthentication(JwtUserDetails userDetails) {
+        return UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities());
+    }
+}
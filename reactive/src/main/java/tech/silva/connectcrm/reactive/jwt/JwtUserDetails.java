@@ -0,0 +1,35 @@
+package tech.silva.connectcrm.reactive.jwt;
+
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import tech.silva.connectcrm.reactive.enums.Role;
+import tech.silva.connectcrm.reactive.models.AppUser;
+
+/**
+ * Principal of a request that passed signature and expiry checks. There is no password: the
+ * module never authenticates credentials itself.
+ */
+public class JwtUserDetails extends User {
+
+    private final Long id;
+    private final Role role;
+
+    public JwtUserDetails(AppUser user) {
+        this(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    public JwtUserDetails(Long id, String username, Role role) {
+        super(username, "", AuthorityUtils.createAuthorityList(role.name()));
+        this.id = id;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public String getRole() {
+        return this.role.name();
+    }
+
+}
@@ -0,0 +1,58 @@
+package tech.silva.connectcrm.reactive.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.repositories.IUserRepository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class JwtUserDetailsService {
+
+    private final IUserRepository userRepository;
+    private final Duration revalidateAfter;
+    private final Map<Long, Long> lastValidatedAt = new ConcurrentHashMap<>();
+
+    public JwtUserDetailsService(IUserRepository userRepository,
+                                 @Value("${connectcrm.jwt.revalidate-after}") Duration revalidateAfter) {
+        this.userRepository = userRepository;
+        this.revalidateAfter = revalidateAfter;
+    }
+
+    /**
+     * Principal of a token issued before the user id was carried as a claim, or empty when no
+     * user has that email any more.
+     */
+    public Mono<JwtUserDetails> findByUsername(String username) {
+        return userRepository.findByEmail(username).map(JwtUserDetails::new);
+    }
+
+    /**
+     * Same opt-in check as the servlet application: disabled when
+     * {@code connectcrm.jwt.revalidate-after} is zero, otherwise each user is looked up at most once
+     * per interval, and a deleted user or a changed email or role invalidates their tokens.
+     */
+    public Mono<Boolean> isStillValid(JwtUserDetails principal) {
+        if (revalidateAfter.isZero())
+            return Mono.just(true);
+
+        long now = System.currentTimeMillis();
+        Long validatedAt = lastValidatedAt.get(principal.getId());
+        if (validatedAt != null && now - validatedAt < revalidateAfter.toMillis())
+            return Mono.just(true);
+
+        return userRepository.findById(principal.getId())
+                .map(user -> user.getEmail().equals(principal.getUsername())
+                        && user.getRole().name().equals(principal.getRole()))
+                .defaultIfEmpty(false)
+                .doOnNext(valid -> {
+                    if (valid)
+                        lastValidatedAt.put(principal.getId(), now);
+                    else
+                        lastValidatedAt.remove(principal.getId());
+                });
+    }
+}
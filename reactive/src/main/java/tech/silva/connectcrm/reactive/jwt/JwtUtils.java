@@ -0,0 +1,75 @@
+package tech.silva.connectcrm.reactive.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import tech.silva.connectcrm.reactive.enums.Role;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Verifies the tokens issued by the servlet application's {@code /api/v1/auth}: same key, same
+ * {@code uid} and {@code role} claims. Tokens are never issued here.
+ */
+public class JwtUtils {
+
+    public static final String JWT_BEARER = "Bearer ";
+    public static final String JWT_AUTHORIZATION = "Authorization";
+    public static final String SECRET_KEY = "0123456789-0123456789-0123456789";
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private static final JwtParser PARSER = Jwts.parser().verifyWith(KEY).build();
+    private static final VerifiedTokenCache VERIFIED_TOKENS = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
+
+    private JwtUtils() {
+    }
+
+    private static String refactorToken(String token) {
+        if (token.contains(JWT_BEARER)) {
+            return token.substring(JWT_BEARER.length());
+        }
+        return token;
+    }
+
+    /**
+     * Verifies the token once and returns its claims, or {@code null} when the signature or the
+     * expiration is invalid. Recently verified tokens are answered from an LRU until they expire.
+     */
+    public static Claims verify(String token) {
+        String jwt = refactorToken(token);
+        Claims claims = VERIFIED_TOKENS.get(jwt);
+        if (claims != null)
+            return claims;
+
+        claims = parseClaims(jwt);
+        if (claims != null)
+            VERIFIED_TOKENS.put(jwt, claims);
+        return claims;
+    }
+
+    public static Claims parseClaims(String token) {
+        try {
+            return PARSER.parseSignedClaims(refactorToken(token)).getPayload();
+        } catch (JwtException | IllegalArgumentException ex) {
+        }
+        return null;
+    }
+
+    /**
+     * Builds the principal straight from the token claims, or returns {@code null} for tokens issued
+     * before the user id was carried as a claim.
+     */
+    public static JwtUserDetails toUserDetails(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null)
+            return null;
+        return new JwtUserDetails(userId, claims.getSubject(), Role.valueOf("ROLE_" + role));
+    }
+}
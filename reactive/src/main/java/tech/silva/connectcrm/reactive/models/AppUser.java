@@ -0,0 +1,57 @@
+package tech.silva.connectcrm.reactive.models;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import tech.silva.connectcrm.reactive.enums.Role;
+
+/**
+ * Read-only view of the {@code users} table: users are registered and maintained by the servlet
+ * application, this module only needs owners for responses and token checks.
+ */
+@Table("users")
+public class AppUser {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    private Role role;
+
+    public AppUser() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public void setRole(Role role) {
+        this.role = role;
+    }
+}
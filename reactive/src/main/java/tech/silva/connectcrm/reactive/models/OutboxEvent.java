@@ -0,0 +1,89 @@
+package tech.silva.connectcrm.reactive.models;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import tech.silva.connectcrm.reactive.enums.DomainEventType;
+import tech.silva.connectcrm.reactive.enums.RecordType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event written in the same transaction as the change it describes. Only inserted here;
+ * the servlet application's {@code OutboxRelay} delivers it like any other row. The id comes from
+ * the same {@code outbox_event_seq} as the JPA entity, see {@code SequenceIdAllocator}; the
+ * database fills the {@code sequence_number} column the relay orders by. {@code origin} is this
+ * application's {@code connectcrm.instance-id}, so every servlet instance's {@code OutboxTail} picks
+ * the row up.
+ */
+@Table("outbox_events")
+public class OutboxEvent {
+
+    @Id
+    private Long id;
+
+    private RecordType aggregateType;
+
+    private Long aggregateId;
+
+    private DomainEventType eventType;
+
+    private Long ownerId;
+
+    private String payload;
+
+    private LocalDateTime occurredAt;
+
+    private String origin;
+
+    private int attempts;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(RecordType aggregateType, Long aggregateId, DomainEventType eventType, Long ownerId,
+                       String payload, LocalDateTime occurredAt, String origin) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.ownerId = ownerId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.origin = origin;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public RecordType getAggregateType() {
+        return aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public DomainEventType getEventType() {
+        return eventType;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,60 @@
+package tech.silva.connectcrm.reactive.models;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import tech.silva.connectcrm.reactive.enums.RecordType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker left behind when a lead or client is deleted, so delta sync in the servlet application
+ * can tell offline clients to drop their copy.
+ */
+@Table("tombstones")
+public class Tombstone {
+
+    @Id
+    private Long id;
+
+    private RecordType type;
+
+    private Long recordId;
+
+    private Long ownerId;
+
+    private LocalDateTime deletedAt;
+
+    public Tombstone() {
+    }
+
+    public Tombstone(RecordType type, Long recordId, Long ownerId, LocalDateTime deletedAt) {
+        this.type = type;
+        this.recordId = recordId;
+        this.ownerId = ownerId;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public RecordType getType() {
+        return type;
+    }
+
+    public Long getRecordId() {
+        return recordId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
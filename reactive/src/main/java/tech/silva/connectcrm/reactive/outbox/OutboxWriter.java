@@ -0,0 +1,78 @@
+package tech.silva.connectcrm.reactive.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.reactive.enums.ChangeType;
+import tech.silva.connectcrm.reactive.enums.DomainEventType;
+import tech.silva.connectcrm.reactive.enums.RecordType;
+import tech.silva.connectcrm.reactive.events.LeadStatusChangedEvent;
+import tech.silva.connectcrm.reactive.models.OutboxEvent;
+import tech.silva.connectcrm.reactive.repositories.IOutboxEventRepository;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes the outbox rows for the changes made by {@code LeadService} and {@code ClientService},
+ * with the event types and payloads of the servlet application's {@code OutboxWriter}. Calls run
+ * inside the service transaction, so a row exists if and only if the change it describes
+ * committed; the servlet application's relay delivers it.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxWriter {
+
+    private final IOutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final String instanceId;
+
+    public OutboxWriter(IOutboxEventRepository outboxRepository, ObjectMapper objectMapper,
+                        @Value("${connectcrm.instance-id}") String instanceId) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.instanceId = instanceId;
+    }
+
+    public Mono<Void> onLeadChanged(ChangeType changeType, Long leadId, Long ownerId, LeadResponseDTO lead) {
+        DomainEventType type = switch (changeType) {
+            case CREATED -> DomainEventType.LEAD_CREATED;
+            case UPDATED -> DomainEventType.LEAD_UPDATED;
+            case DELETED -> DomainEventType.LEAD_DELETED;
+        };
+        return write(RecordType.LEAD, leadId, type, ownerId, changeType == ChangeType.DELETED ? null : lead);
+    }
+
+    public Mono<Void> onLeadStatusChanged(LeadStatusChangedEvent event) {
+        return write(RecordType.LEAD, event.leadId(), DomainEventType.LEAD_STATUS_CHANGED, event.ownerId(), event);
+    }
+
+    public Mono<Void> onClientChanged(ChangeType changeType, Long clientId, Long ownerId, ClientResponseDTO client) {
+        DomainEventType type = switch (changeType) {
+            case CREATED -> DomainEventType.CLIENT_CREATED;
+            case UPDATED -> DomainEventType.CLIENT_UPDATED;
+            case DELETED -> DomainEventType.CLIENT_DELETED;
+        };
+        return write(RecordType.CLIENT, clientId, type, ownerId, changeType == ChangeType.DELETED ? null : client);
+    }
+
+    private Mono<Void> write(RecordType aggregateType, Long aggregateId, DomainEventType type, Long ownerId, Object payload) {
+        return Mono.defer(() -> outboxRepository.save(new OutboxEvent(aggregateType, aggregateId, type, ownerId,
+                        payload == null ? null : toJson(payload), LocalDateTime.now(), instanceId)))
+                .then();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
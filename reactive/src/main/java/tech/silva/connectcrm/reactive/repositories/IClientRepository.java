@@ -0,0 +1,58 @@
+package tech.silva.connectcrm.reactive.repositories;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.reactive.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.reactive.models.Client;
+
+public interface IClientRepository extends R2dbcRepository<Client, Long> {
+
+    String SELECT_WITH_OWNER = "SELECT c.id, c.name, c.email, c.phone, c.document, c.address, " +
+            "u.id AS user_id, u.name AS user_name, u.email AS user_email, u.role AS user_role " +
+            "FROM clients c JOIN users u ON u.id = c.user_id ";
+
+    @Query("SELECT * FROM clients WHERE id = :id AND user_id = :userId")
+    Mono<Client> findByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query(SELECT_WITH_OWNER + "WHERE c.id = :id")
+    Mono<ClientResponseDTO> findWithOwnerById(@Param("id") Long id);
+
+    @Query(SELECT_WITH_OWNER + "WHERE c.id = :id AND u.id = :userId")
+    Mono<ClientResponseDTO> findWithOwnerByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT id, modified_at FROM clients WHERE id = :id")
+    Mono<EntityVersionDTO> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT id, modified_at FROM clients WHERE id = :id AND user_id = :userId")
+    Mono<EntityVersionDTO> findVersionByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT COUNT(*) AS count, MAX(modified_at) AS max_modified_at FROM clients WHERE user_id = :userId")
+    Mono<CollectionVersionDTO> findVersionByOwner(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM clients WHERE id = :id AND user_id = :userId")
+    Mono<Integer> deleteByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query(SELECT_WITH_OWNER + "WHERE c.id > :afterId ORDER BY c.id ASC LIMIT :limit")
+    Flux<ClientResponseDTO> findPageAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Query(SELECT_WITH_OWNER + "WHERE u.id = :userId AND c.id > :afterId ORDER BY c.id ASC LIMIT :limit")
+    Flux<ClientResponseDTO> findPageByUserAfter(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                @Param("limit") int limit);
+
+    /**
+     * Every client after {@code afterId} in id order, pulled from the driver as the subscriber
+     * requests rows.
+     */
+    @Query(SELECT_WITH_OWNER + "WHERE c.id > :afterId ORDER BY c.id ASC")
+    Flux<ClientResponseDTO> streamAfter(@Param("afterId") Long afterId);
+
+    @Query(SELECT_WITH_OWNER + "WHERE u.id = :userId AND c.id > :afterId ORDER BY c.id ASC")
+    Flux<ClientResponseDTO> streamByUserAfter(@Param("userId") Long userId, @Param("afterId") Long afterId);
+}
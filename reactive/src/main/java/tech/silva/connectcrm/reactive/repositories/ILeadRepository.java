@@ -0,0 +1,79 @@
+package tech.silva.connectcrm.reactive.repositories;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadStatusDTO;
+import tech.silva.connectcrm.reactive.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.reactive.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.reactive.enums.StatusLead;
+import tech.silva.connectcrm.reactive.models.Lead;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface ILeadRepository extends R2dbcRepository<Lead, Long> {
+
+    String SELECT_WITH_OWNER = "SELECT l.id, l.name, l.email, l.phone, l.origin, l.status, " +
+            "u.id AS user_id, u.name AS user_name, u.email AS user_email, u.role AS user_role " +
+            "FROM leads l JOIN users u ON u.id = l.user_id ";
+
+    @Query("SELECT * FROM leads WHERE id = :id AND user_id = :userId")
+    Mono<Lead> findByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query(SELECT_WITH_OWNER + "WHERE l.id = :id")
+    Mono<LeadResponseDTO> findWithOwnerById(@Param("id") Long id);
+
+    @Query(SELECT_WITH_OWNER + "WHERE l.id = :id AND u.id = :userId")
+    Mono<LeadResponseDTO> findWithOwnerByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT id, modified_at FROM leads WHERE id = :id")
+    Mono<EntityVersionDTO> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT id, modified_at FROM leads WHERE id = :id AND user_id = :userId")
+    Mono<EntityVersionDTO> findVersionByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT COUNT(*) AS count, MAX(modified_at) AS max_modified_at FROM leads WHERE user_id = :userId")
+    Mono<CollectionVersionDTO> findVersionByOwner(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM leads WHERE id = :id AND user_id = :userId")
+    Mono<Integer> deleteByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query(SELECT_WITH_OWNER + "WHERE l.id > :afterId ORDER BY l.id ASC LIMIT :limit")
+    Flux<LeadResponseDTO> findPageAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Query(SELECT_WITH_OWNER + "WHERE u.id = :userId AND l.id > :afterId ORDER BY l.id ASC LIMIT :limit")
+    Flux<LeadResponseDTO> findPageByUserAfter(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                              @Param("limit") int limit);
+
+    /**
+     * Every lead after {@code afterId} in id order, as one result set. Rows are pulled from the
+     * driver as the subscriber requests them, so a slow client slows the read instead of growing
+     * a buffer.
+     */
+    @Query(SELECT_WITH_OWNER + "WHERE l.id > :afterId ORDER BY l.id ASC")
+    Flux<LeadResponseDTO> streamAfter(@Param("afterId") Long afterId);
+
+    @Query(SELECT_WITH_OWNER + "WHERE u.id = :userId AND l.id > :afterId ORDER BY l.id ASC")
+    Flux<LeadResponseDTO> streamByUserAfter(@Param("userId") Long userId, @Param("afterId") Long afterId);
+
+    @Query("SELECT id, user_id AS owner_id, status FROM leads " +
+            "WHERE id IN (:ids) AND status <> :status ORDER BY id FOR UPDATE")
+    Flux<LeadStatusDTO> lockStatusChanges(@Param("ids") Collection<Long> ids, @Param("status") StatusLead status);
+
+    @Query("SELECT id, user_id AS owner_id, status FROM leads " +
+            "WHERE id IN (:ids) AND user_id = :userId AND status <> :status ORDER BY id FOR UPDATE")
+    Flux<LeadStatusDTO> lockStatusChangesForOwner(@Param("ids") Collection<Long> ids, @Param("userId") Long userId,
+                                                  @Param("status") StatusLead status);
+
+    @Modifying
+    @Query("UPDATE leads SET status = :status, modified_at = :modifiedAt, modified_by = :modifiedBy " +
+            "WHERE id IN (:ids)")
+    Mono<Integer> updateStatus(@Param("ids") Collection<Long> ids, @Param("status") StatusLead status,
+                               @Param("modifiedAt") LocalDateTime modifiedAt, @Param("modifiedBy") String modifiedBy);
+}
@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.reactive.repositories;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import tech.silva.connectcrm.reactive.models.OutboxEvent;
+
+public interface IOutboxEventRepository extends R2dbcRepository<OutboxEvent, Long> {
+}
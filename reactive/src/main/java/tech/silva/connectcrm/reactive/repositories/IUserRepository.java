@@ -0,0 +1,9 @@
+package tech.silva.connectcrm.reactive.repositories;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.models.AppUser;
+
+public interface IUserRepository extends R2dbcRepository<AppUser, Long> {
+    Mono<AppUser> findByEmail(String email);
+}
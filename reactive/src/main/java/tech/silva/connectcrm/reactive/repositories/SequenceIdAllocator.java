@@ -0,0 +1,90 @@
+package tech.silva.connectcrm.reactive.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out ids from one of the sequence tables Hibernate keeps for the JPA entities on MySQL
+ * ({@code lead_seq}, {@code client_seq}, {@code tombstone_seq}, {@code outbox_event_seq}: a single
+ * {@code next_val} row).
+ * <p>
+ * The servlet application reads them with the pooled optimizer: every value {@code V} taken from
+ * the table reserves the ids {@code V - allocationSize + 1 .. V} for whoever took it. This
+ * allocator follows the same rule, so both applications insert into the same tables without
+ * colliding. The row is read with {@code SELECT ... FOR UPDATE} and bumped in a transaction of its
+ * own, as Hibernate does: the row lock serializes concurrent reservations from either application,
+ * and the caller's transaction never holds it. Within this instance the current block is handed
+ * out through an {@link AtomicLong}, so callers never wait on each other until it runs out.
+ * <p>
+ * Hibernate treats the table's initial value specially: it takes the first two values and uses
+ * every id up to the second one. Those two values are therefore never used here.
+ */
+public class SequenceIdAllocator {
+
+    private static final long INITIAL_VALUE = 1;
+
+    private final String table;
+    private final int allocationSize;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator newTransaction;
+
+    private final AtomicReference<Block> block = new AtomicReference<>(new Block(new AtomicLong(0), -1));
+
+    public SequenceIdAllocator(String table, int allocationSize, DatabaseClient databaseClient,
+                               ReactiveTransactionManager transactionManager) {
+        this.table = table;
+        this.allocationSize = allocationSize;
+        this.databaseClient = databaseClient;
+        this.newTransaction = TransactionalOperator.create(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            Block current = block.get();
+            long id = current.next().getAndIncrement();
+            if (id <= current.hi())
+                return Mono.just(id);
+            return reserveBlock().map(this::install);
+        });
+    }
+
+    /**
+     * Returns the first id of the block ending at {@code value}. The rest of it becomes the current
+     * block unless a concurrent caller already installed a fresh one, in which case it is dropped.
+     */
+    private long install(long value) {
+        long low = value - allocationSize + 1;
+        Block current = block.get();
+        if (current.next().get() > current.hi())
+            block.compareAndSet(current, new Block(new AtomicLong(low + 1), value));
+        return low;
+    }
+
+    private Mono<Long> reserveBlock() {
+        Mono<Long> reserve = databaseClient.sql("SELECT next_val FROM " + table + " FOR UPDATE")
+                .map(row -> row.get("next_val", Long.class))
+                .one()
+                .flatMap(current -> databaseClient
+                        .sql("UPDATE " + table + " SET next_val = :next")
+                        .bind("next", current + allocationSize)
+                        .then()
+                        .thenReturn(current));
+        return newTransaction.transactional(reserve)
+                .flatMap(value -> value <= INITIAL_VALUE + allocationSize ? reserveBlock() : Mono.just(value));
+    }
+
+    /**
+     * Ids {@code next .. hi} of the block in use; {@code next} keeps counting past {@code hi} once
+     * the block is exhausted.
+     */
+    private record Block(AtomicLong next, long hi) {
+    }
+}
@@ -0,0 +1,49 @@
+package tech.silva.connectcrm.reactive.repositories;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Assigns ids to new entities of the sequence-backed tables right before they are inserted.
+ * Runs after the auditing callback, which decides between created and modified by the id still
+ * being {@code null}.
+ */
+public class SequenceIdCallback implements BeforeConvertCallback<Object>, Ordered {
+
+    private final RelationalMappingContext mappingContext;
+    private final Map<Class<?>, SequenceIdAllocator> allocators;
+
+    public SequenceIdCallback(RelationalMappingContext mappingContext, Map<Class<?>, SequenceIdAllocator> allocators) {
+        this.mappingContext = mappingContext;
+        this.allocators = Map.copyOf(allocators);
+    }
+
+    @Override
+    public Publisher<Object> onBeforeConvert(Object entity, SqlIdentifier table) {
+        SequenceIdAllocator allocator = allocators.get(entity.getClass());
+        if (allocator == null)
+            return Mono.just(entity);
+
+        RelationalPersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(entity.getClass());
+        PersistentPropertyAccessor<Object> accessor = persistentEntity.getPropertyAccessor(entity);
+        if (accessor.getProperty(persistentEntity.getRequiredIdProperty()) != null)
+            return Mono.just(entity);
+        return allocator.nextId().map(id -> {
+            accessor.setProperty(persistentEntity.getRequiredIdProperty(), id);
+            return accessor.getBean();
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
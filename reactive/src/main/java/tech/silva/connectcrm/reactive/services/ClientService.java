@@ -0,0 +1,137 @@
+package tech.silva.connectcrm.reactive.services;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.reactive.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.reactive.enums.ChangeType;
+import tech.silva.connectcrm.reactive.enums.RecordType;
+import tech.silva.connectcrm.reactive.enums.Role;
+import tech.silva.connectcrm.reactive.exceptions.EntityNotAvailableForViewException;
+import tech.silva.connectcrm.reactive.exceptions.EntityNotFoundException;
+import tech.silva.connectcrm.reactive.exceptions.UniqueUserViolationException;
+import tech.silva.connectcrm.reactive.models.AppUser;
+import tech.silva.connectcrm.reactive.models.Client;
+import tech.silva.connectcrm.reactive.outbox.OutboxWriter;
+import tech.silva.connectcrm.reactive.repositories.IClientRepository;
+import tech.silva.connectcrm.reactive.repositories.IUserRepository;
+
+import java.util.List;
+
+@Service
+@Transactional
+public class ClientService {
+
+    private final IClientRepository clientRepository;
+    private final IUserRepository userRepository;
+    private final OutboxWriter outboxWriter;
+    private final SyncService syncService;
+
+    public ClientService(IClientRepository clientRepository, IUserRepository userRepository,
+                         OutboxWriter outboxWriter, SyncService syncService) {
+        this.clientRepository = clientRepository;
+        this.userRepository = userRepository;
+        this.outboxWriter = outboxWriter;
+        this.syncService = syncService;
+    }
+
+    public Mono<ClientResponseDTO> saveClient(Client client, Long idUser) {
+        return findUser(idUser)
+                .flatMap(user -> {
+                    client.setUserId(user.getId());
+                    return clientRepository.save(client)
+                            .onErrorMap(DuplicateKeyException.class, ex -> new UniqueUserViolationException(String.format(
+                                    "Client with email: %s already registered. Try again!", client.getEmail())))
+                            .map(savedClient -> ClientResponseDTO.toClientDto(savedClient, user));
+                })
+                .flatMap(savedClient -> outboxWriter.onClientChanged(ChangeType.CREATED, savedClient.id(), idUser, savedClient)
+                        .thenReturn(savedClient));
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<List<ClientResponseDTO>> listAllClients(Long afterId, int size) {
+        return clientRepository.findPageAfter(afterId, size + 1).collectList();
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<List<ClientResponseDTO>> getMyClients(Long id, Long afterId, int size) {
+        return clientRepository.findPageByUserAfter(id, afterId, size + 1).collectList();
+    }
+
+    /**
+     * Every client after {@code afterId} in id order, read in one read-only transaction and pulled
+     * from the database in batches of {@link LeadService#STREAM_BATCH_SIZE}.
+     */
+    @Transactional(readOnly = true)
+    public Flux<ClientResponseDTO> streamClients(Long afterId) {
+        return clientRepository.streamAfter(afterId).limitRate(LeadService.STREAM_BATCH_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public Flux<ClientResponseDTO> streamMyClients(Long id, Long afterId) {
+        return clientRepository.streamByUserAfter(id, afterId).limitRate(LeadService.STREAM_BATCH_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<CollectionVersionDTO> getMyClientsVersion(Long id) {
+        return clientRepository.findVersionByOwner(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<ClientResponseDTO> getClientById(Long id, Long userId, Role role) {
+        if (!role.equals(Role.ROLE_SELLER))
+            return clientRepository.findWithOwnerById(id).switchIfEmpty(Mono.error(() -> clientNotFound(id)));
+        return clientRepository.findWithOwnerByIdAndOwner(id, userId)
+                .switchIfEmpty(clientNotFoundOrNotAvailable(id));
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<EntityVersionDTO> getClientVersion(Long id, Long userId, Role role) {
+        if (!role.equals(Role.ROLE_SELLER))
+            return clientRepository.findVersionById(id).switchIfEmpty(Mono.error(() -> clientNotFound(id)));
+        return clientRepository.findVersionByIdAndOwner(id, userId)
+                .switchIfEmpty(clientNotFoundOrNotAvailable(id));
+    }
+
+    public Mono<ClientResponseDTO> updateClient(Client client, Long id) {
+        return clientRepository.findByIdAndOwner(client.getId(), id)
+                .switchIfEmpty(clientNotFoundOrNotAvailable(client.getId()))
+                .flatMap(clientSaved -> {
+                    clientSaved.setName(client.getName());
+                    clientSaved.setPhone(client.getPhone());
+                    clientSaved.setDocument(client.getDocument());
+                    clientSaved.setAddress(client.getAddress());
+                    return clientRepository.save(clientSaved);
+                })
+                .zipWith(findUser(id), ClientResponseDTO::toClientDto)
+                .flatMap(clientSaved -> outboxWriter.onClientChanged(ChangeType.UPDATED, clientSaved.id(), id, clientSaved)
+                        .thenReturn(clientSaved));
+    }
+
+    public Mono<Void> deleteClient(Long idClient, Long id) {
+        return clientRepository.deleteByIdAndOwner(idClient, id)
+                .flatMap(deleted -> deleted == 0
+                        ? clientNotFoundOrNotAvailable(idClient)
+                        : syncService.recordDeletion(RecordType.CLIENT, idClient, id)
+                                .then(outboxWriter.onClientChanged(ChangeType.DELETED, idClient, id, null)));
+    }
+
+    private Mono<AppUser> findUser(Long id) {
+        return userRepository.findById(id).switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                String.format("User with Id= %s not found", id))));
+    }
+
+    private EntityNotFoundException clientNotFound(Long id) {
+        return new EntityNotFoundException(String.format("Client with Id= %s not found", id));
+    }
+
+    private <T> Mono<T> clientNotFoundOrNotAvailable(Long id) {
+        return clientRepository.existsById(id).flatMap(exists -> Mono.error(!exists
+                ? clientNotFound(id)
+                : new EntityNotAvailableForViewException("This client is not available for viewing by this user")));
+    }
+}
@@ -0,0 +1,182 @@
+package tech.silva.connectcrm.reactive.services;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadStatusDTO;
+import tech.silva.connectcrm.reactive.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.reactive.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.reactive.enums.ChangeType;
+import tech.silva.connectcrm.reactive.enums.RecordType;
+import tech.silva.connectcrm.reactive.enums.Role;
+import tech.silva.connectcrm.reactive.enums.StatusLead;
+import tech.silva.connectcrm.reactive.events.LeadStatusChangedEvent;
+import tech.silva.connectcrm.reactive.exceptions.EntityNotAvailableForViewException;
+import tech.silva.connectcrm.reactive.exceptions.EntityNotFoundException;
+import tech.silva.connectcrm.reactive.exceptions.UniqueUserViolationException;
+import tech.silva.connectcrm.reactive.models.AppUser;
+import tech.silva.connectcrm.reactive.models.Lead;
+import tech.silva.connectcrm.reactive.outbox.OutboxWriter;
+import tech.silva.connectcrm.reactive.repositories.ILeadRepository;
+import tech.silva.connectcrm.reactive.repositories.IUserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional
+public class LeadService {
+
+    /**
+     * Rows requested from the driver at a time by streaming reads, whatever the subscriber asks
+     * for; a new batch is requested once three quarters of the previous one were consumed.
+     */
+    public static final int STREAM_BATCH_SIZE = 500;
+
+    private final ILeadRepository leadRepository;
+    private final IUserRepository userRepository;
+    private final OutboxWriter outboxWriter;
+    private final SyncService syncService;
+    private final ReactiveAuditorAware<String> auditorAware;
+
+    public LeadService(ILeadRepository leadRepository, IUserRepository userRepository, OutboxWriter outboxWriter,
+                       SyncService syncService, ReactiveAuditorAware<String> auditorAware) {
+        this.leadRepository = leadRepository;
+        this.userRepository = userRepository;
+        this.outboxWriter = outboxWriter;
+        this.syncService = syncService;
+        this.auditorAware = auditorAware;
+    }
+
+    public Mono<LeadResponseDTO> saveLead(Lead lead, Long id) {
+        return findUser(id)
+                .flatMap(user -> {
+                    lead.setUserId(user.getId());
+                    return leadRepository.save(lead)
+                            .onErrorMap(DuplicateKeyException.class, ex -> new UniqueUserViolationException(String.format(
+                                    "Lead with email: %s already registered. Try again!", lead.getEmail())))
+                            .map(savedLead -> LeadResponseDTO.toLeadDto(savedLead, user));
+                })
+                .flatMap(savedLead -> outboxWriter.onLeadChanged(ChangeType.CREATED, savedLead.id(), id, savedLead)
+                        .thenReturn(savedLead));
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<List<LeadResponseDTO>> listAllLeads(Long afterId, int size) {
+        return leadRepository.findPageAfter(afterId, size + 1).collectList();
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<List<LeadResponseDTO>> getMyLeads(Long id, Long afterId, int size) {
+        return leadRepository.findPageByUserAfter(id, afterId, size + 1).collectList();
+    }
+
+    /**
+     * Every lead after {@code afterId} in id order, read in one read-only transaction and pulled
+     * from the database in batches of {@link #STREAM_BATCH_SIZE} as the subscriber consumes them.
+     */
+    @Transactional(readOnly = true)
+    public Flux<LeadResponseDTO> streamLeads(Long afterId) {
+        return leadRepository.streamAfter(afterId).limitRate(STREAM_BATCH_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public Flux<LeadResponseDTO> streamMyLeads(Long id, Long afterId) {
+        return leadRepository.streamByUserAfter(id, afterId).limitRate(STREAM_BATCH_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<CollectionVersionDTO> getMyLeadsVersion(Long id) {
+        return leadRepository.findVersionByOwner(id);
+    }
+
+    /**
+     * Loads the lead and its owner in one statement. For sellers the owner is part of the WHERE
+     * clause; only when nothing matches is a second lookup made to tell a missing lead from one that
+     * belongs to somebody else.
+     */
+    @Transactional(readOnly = true)
+    public Mono<LeadResponseDTO> getLeadById(Long id, Long userId, Role role) {
+        if (!role.equals(Role.ROLE_SELLER))
+            return leadRepository.findWithOwnerById(id).switchIfEmpty(Mono.error(() -> leadNotFound(id)));
+        return leadRepository.findWithOwnerByIdAndOwner(id, userId)
+                .switchIfEmpty(leadNotFoundOrNotAvailable(id, "viewing"));
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<EntityVersionDTO> getLeadVersion(Long id, Long userId, Role role) {
+        if (!role.equals(Role.ROLE_SELLER))
+            return leadRepository.findVersionById(id).switchIfEmpty(Mono.error(() -> leadNotFound(id)));
+        return leadRepository.findVersionByIdAndOwner(id, userId)
+                .switchIfEmpty(leadNotFoundOrNotAvailable(id, "viewing"));
+    }
+
+    public Mono<LeadResponseDTO> updateLead(Lead lead, Long id) {
+        return leadRepository.findByIdAndOwner(lead.getId(), id)
+                .switchIfEmpty(leadNotFoundOrNotAvailable(lead.getId(), "updating"))
+                .flatMap(leadSaved -> {
+                    leadSaved.setName(lead.getName());
+                    leadSaved.setEmail(lead.getEmail());
+                    leadSaved.setPhone(lead.getPhone());
+                    leadSaved.setOrigin(lead.getOrigin());
+                    return leadRepository.save(leadSaved);
+                })
+                .zipWith(findUser(id), LeadResponseDTO::toLeadDto)
+                .flatMap(leadSaved -> outboxWriter.onLeadChanged(ChangeType.UPDATED, leadSaved.id(), id, leadSaved)
+                        .thenReturn(leadSaved));
+    }
+
+    /**
+     * Moves the given leads to {@code status} with a single UPDATE. The leads that will actually
+     * change are selected and row-locked first (sellers only get leads they own), so each one gets a
+     * status change outbox event with its previous status. The audit columns are set here, as the
+     * UPDATE does not go through the auditing callback.
+     *
+     * @return how many leads actually changed
+     */
+    public Mono<Integer> updateStatus(List<Long> ids, StatusLead status, Long userId, Role role) {
+        Flux<LeadStatusDTO> locked = role.equals(Role.ROLE_SELLER)
+                ? leadRepository.lockStatusChangesForOwner(ids, userId, status)
+                : leadRepository.lockStatusChanges(ids, status);
+        return locked.collectList().flatMap(changes -> {
+            if (changes.isEmpty())
+                return Mono.just(0);
+            return auditorAware.getCurrentAuditor()
+                    .switchIfEmpty(Mono.error(() -> new IllegalStateException("No authenticated user to audit the change")))
+                    .flatMap(modifiedBy -> leadRepository.updateStatus(
+                            changes.stream().map(LeadStatusDTO::id).toList(), status, LocalDateTime.now(), modifiedBy))
+                    .flatMap(updated -> Flux.fromIterable(changes)
+                            .concatMap(change -> outboxWriter.onLeadStatusChanged(
+                                    new LeadStatusChangedEvent(change.id(), change.ownerId(), change.status(), status)))
+                            .then(Mono.just(updated)));
+        });
+    }
+
+    public Mono<Void> deleteLead(Long id, Long userId) {
+        return leadRepository.deleteByIdAndOwner(id, userId)
+                .flatMap(deleted -> deleted == 0
+                        ? leadNotFoundOrNotAvailable(id, "deleting")
+                        : syncService.recordDeletion(RecordType.LEAD, id, userId)
+                                .then(outboxWriter.onLeadChanged(ChangeType.DELETED, id, userId, null)));
+    }
+
+    private Mono<AppUser> findUser(Long id) {
+        return userRepository.findById(id).switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                String.format("User with Id= %s not found", id))));
+    }
+
+    private EntityNotFoundException leadNotFound(Long id) {
+        return new EntityNotFoundException(String.format("Lead with Id= %s not found", id));
+    }
+
+    private <T> Mono<T> leadNotFoundOrNotAvailable(Long id, String action) {
+        return leadRepository.existsById(id).flatMap(exists -> Mono.error(!exists
+                ? leadNotFound(id)
+                : new EntityNotAvailableForViewException(
+                        String.format("This lead is not available for %s by this user", action))));
+    }
+}
@@ -0,0 +1,30 @@
+package tech.silva.connectcrm.reactive.services;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import tech.silva.connectcrm.reactive.enums.RecordType;
+import tech.silva.connectcrm.reactive.models.Tombstone;
+import tech.silva.connectcrm.reactive.repositories.ITombstoneRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Write side of delta sync: deletions made here leave the same tombstones the servlet
+ * application's {@code SyncService} reads when it builds change sets.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class SyncService {
+
+    private final ITombstoneRepository tombstoneRepository;
+
+    public SyncService(ITombstoneRepository tombstoneRepository) {
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    public Mono<Void> recordDeletion(RecordType type, Long recordId, Long ownerId) {
+        return tombstoneRepository.save(new Tombstone(type, recordId, ownerId, LocalDateTime.now())).then();
+    }
+}
@@ -0,0 +1,430 @@
+package tech.silva.connectcrm.reactive.controllers;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.netty.channel.ChannelOption;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+import tech.silva.connectcrm.reactive.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.reactive.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.reactive.jwt.JwtUtils;
+import tech.silva.connectcrm.reactive.repositories.ILeadRepository;
+import tech.silva.connectcrm.reactive.services.LeadService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Drives the reactive API over HTTP against H2 and checks it answers like the servlet
+ * application: statuses, bodies, conditional GETs, and the tombstone and outbox rows its writes
+ * leave for the main application. Responses whose body is not checked are still read to the end
+ * ({@code expectBody(Void.class)}), which releases their buffers.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveApiTest {
+
+    private static final int SEEDED_LEADS = 5000;
+    // small socket buffers, so that rows a stream reads ahead of its client show up as rows read
+    private static final int SOCKET_BUFFER = 16 * 1024;
+
+    // closed after the tests: a connection still open when the context closes holds up the
+    // server's graceful shutdown
+    private final ConnectionProvider connections = ConnectionProvider.create("reactive-api-test");
+    private WebTestClient client;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @MockitoSpyBean
+    private ILeadRepository leadRepository;
+
+    @LocalServerPort
+    private int port;
+
+    private String seller;
+    private String otherSeller;
+    private String admin;
+
+    @BeforeAll
+    void seed() {
+        client = WebTestClient
+                .bindToServer(new ReactorClientHttpConnector(HttpClient.create(connections)
+                        .option(ChannelOption.SO_RCVBUF, SOCKET_BUFFER)))
+                .baseUrl("http://localhost:" + port)
+                .responseTimeout(Duration.ofSeconds(30))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                .build();
+        insertUser(1L, "Seller", "seller@crm.com", "ROLE_SELLER");
+        insertUser(2L, "Other", "other@crm.com", "ROLE_SELLER");
+        insertUser(3L, "Admin", "admin@crm.com", "ROLE_ADMIN");
+        seller = token(1L, "seller@crm.com", "SELLER");
+        otherSeller = token(2L, "other@crm.com", "SELLER");
+        admin = token(3L, "admin@crm.com", "ADMIN");
+
+        // bulk rows with ids below the sequence blocks the API hands out from here on
+        databaseClient.sql("UPDATE lead_seq SET next_val = " + (SEEDED_LEADS + 1000)).then().block();
+        databaseClient.sql("INSERT INTO leads (id, name, email, phone, origin, status, user_id, created_at, " +
+                        "modified_at, created_by, modified_by) " +
+                        "SELECT r.n, CONCAT('Bulk ', r.n), CONCAT('bulk', r.n, '@crm.com'), '11999999999', 'site', " +
+                        "'NEW', 2, NOW(), NOW(), 'seed', 'seed' FROM SYSTEM_RANGE(1, " + SEEDED_LEADS + ") r(n)")
+                .then().block();
+    }
+
+    @AfterAll
+    void closeConnections() {
+        connections.disposeLater().block(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void createdLeadIsReturnedAndLeavesAnOutboxEvent() {
+        LeadResponseDTO lead = createLead(seller, "created@crm.com");
+
+        assertNotNull(lead.id());
+        assertEquals("seller@crm.com", lead.user().email());
+        assertEquals(1, count("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = " + lead.id() +
+                " AND event_type = 'LEAD_CREATED' AND payload LIKE '%created@crm.com%'"));
+        assertEquals(1, count("SELECT COUNT(*) FROM leads WHERE id = " + lead.id() +
+                " AND created_by = 'seller@crm.com' AND modified_by = 'seller@crm.com'"));
+
+        client.post().uri("/api/v1/leads")
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(leadBody("created@crm.com"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody(Void.class);
+    }
+
+    @Test
+    void invalidBodyIsRejectedWithFieldErrors() {
+        client.post().uri("/api/v1/leads")
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "", "email", "not-an-email", "phone", "1", "origin", "site"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.errors.name").exists()
+                .jsonPath("$.errors.email").exists();
+    }
+
+    @Test
+    void requestsWithoutAValidTokenAreDenied() {
+        client.get().uri("/api/v1/leads/me")
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody(Void.class);
+        client.get().uri("/api/v1/leads/me")
+                .header(HttpHeaders.AUTHORIZATION, seller + "x")
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody(Void.class);
+        client.get().uri("/api/v1/leads")
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody(Void.class);
+    }
+
+    @Test
+    void leadByIdFollowsOwnershipAndConditionalGets() {
+        LeadResponseDTO lead = createLead(seller, "owned@crm.com");
+
+        String eTag = client.get().uri("/api/v1/leads/{id}", lead.id())
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.email").isEqualTo("owned@crm.com")
+                .returnResult().getResponseHeaders().getETag();
+        assertNotNull(eTag);
+
+        client.get().uri("/api/v1/leads/{id}", lead.id())
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+        client.get().uri("/api/v1/leads/{id}", lead.id())
+                .header(HttpHeaders.AUTHORIZATION, otherSeller)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(Void.class);
+        client.get().uri("/api/v1/leads/{id}", lead.id())
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Void.class);
+        client.get().uri("/api/v1/leads/{id}", 999_999)
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(Void.class);
+    }
+
+    @Test
+    void myLeadsArePagedWithACursor() {
+        String first = client.get().uri("/api/v1/leads/me?size=100")
+                .header(HttpHeaders.AUTHORIZATION, otherSeller)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.size").isEqualTo(100)
+                .jsonPath("$.content[0].id").isEqualTo(1)
+                .returnResult().getResponseHeaders().getETag();
+
+        client.get().uri("/api/v1/leads/me?size=100")
+                .header(HttpHeaders.AUTHORIZATION, otherSeller)
+                .header(HttpHeaders.IF_NONE_MATCH, first)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody(Void.class);
+        client.get().uri("/api/v1/leads/me?cursor=nope")
+                .header(HttpHeaders.AUTHORIZATION, otherSeller)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(Void.class);
+    }
+
+    @Test
+    void leadsAreStreamedAsNdjsonInIdOrder() {
+        List<LeadResponseDTO> leads = client.get().uri("/api/v1/leads")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(LeadResponseDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertNotNull(leads);
+        assertTrue(leads.size() >= SEEDED_LEADS);
+        for (int i = 1; i < leads.size(); i++)
+            assertTrue(leads.get(i - 1).id() < leads.get(i).id());
+    }
+
+    @Test
+    void streamedLeadsAreReadOnlyAsFastAsTheClientConsumes() throws InterruptedException {
+        AtomicInteger rowsRead = new AtomicInteger();
+        CountDownLatch streamClosed = new CountDownLatch(1);
+        // the spy's default answer is the real repository
+        doAnswer(invocation -> ((Flux<?>) mockingDetails(leadRepository).getMockCreationSettings()
+                .getDefaultAnswer().answer(invocation))
+                .doOnNext(row -> rowsRead.incrementAndGet())
+                .doFinally(signal -> streamClosed.countDown()))
+                .when(leadRepository).streamByUserAfter(anyLong(), anyLong());
+
+        Flux<LeadResponseDTO> stream = client.get().uri("/api/v1/leads/me")
+                .header(HttpHeaders.AUTHORIZATION, otherSeller)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(LeadResponseDTO.class)
+                .getResponseBody();
+
+        StepVerifier.create(stream, 0)
+                .thenRequest(10)
+                .expectNextCount(10)
+                // time for a server that ignores demand to read ahead
+                .thenAwait(Duration.ofSeconds(2))
+                .thenCancel()
+                .verify(Duration.ofSeconds(30));
+
+        // the cancel closes the connection, which must end the query too
+        assertTrue(streamClosed.await(10, TimeUnit.SECONDS));
+        assertTrue(rowsRead.get() < 2 * LeadService.STREAM_BATCH_SIZE,
+                rowsRead.get() + " rows read for 10 leads consumed");
+    }
+
+    @Test
+    void exportWritesCsvWithAHeader() {
+        String csv = client.get().uri("/api/v1/leads/export?format=CSV")
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=leads.csv")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(csv);
+        String[] lines = csv.split("\r\n");
+        assertEquals(String.join(",", LeadResponseDTO.CSV_HEADER), lines[0]);
+        assertTrue(lines.length > SEEDED_LEADS);
+    }
+
+    @Test
+    void statusChangeUpdatesOnlyOwnedLeadsAndRecordsEachChange() {
+        LeadResponseDTO mine = createLead(seller, "status-mine@crm.com");
+        LeadResponseDTO theirs = createLead(otherSeller, "status-theirs@crm.com");
+
+        client.patch().uri("/api/v1/leads/status")
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", List.of(mine.id(), theirs.id()), "status", "QUALIFIED"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.requested").isEqualTo(2)
+                .jsonPath("$.updated").isEqualTo(1);
+
+        assertEquals(1, count("SELECT COUNT(*) FROM leads WHERE id = " + mine.id() + " AND status = 'QUALIFIED'"));
+        assertEquals(1, count("SELECT COUNT(*) FROM leads WHERE id = " + theirs.id() + " AND status = 'NEW'"));
+        assertEquals(1, count("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = " + mine.id() +
+                " AND event_type = 'LEAD_STATUS_CHANGED' AND payload LIKE '%\"previousStatus\":\"NEW\"%'"));
+    }
+
+    @Test
+    void deleteLeavesATombstoneAndAnOutboxEvent() {
+        LeadResponseDTO lead = createLead(seller, "deleted@crm.com");
+
+        client.delete().uri("/api/v1/leads/{id}", lead.id())
+                .header(HttpHeaders.AUTHORIZATION, otherSeller)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(Void.class);
+        client.delete().uri("/api/v1/leads/{id}", lead.id())
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Void.class);
+
+        assertEquals(0, count("SELECT COUNT(*) FROM leads WHERE id = " + lead.id()));
+        assertEquals(1, count("SELECT COUNT(*) FROM tombstones WHERE type = 'LEAD' AND record_id = " + lead.id() +
+                " AND owner_id = 1"));
+        assertEquals(1, count("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = " + lead.id() +
+                " AND event_type = 'LEAD_DELETED' AND payload IS NULL"));
+    }
+
+    @Test
+    void clientsFollowTheSameContract() {
+        ClientResponseDTO created = client.post().uri("/api/v1/clients")
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "Client", "email", "client@crm.com", "phone", "11999999999",
+                        "document", "123", "address", "Street 1"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ClientResponseDTO.class)
+                .returnResult().getResponseBody();
+        assertNotNull(created);
+
+        client.put().uri("/api/v1/clients")
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("id", created.id(), "name", "Renamed", "phone", "11999999999",
+                        "document", "123", "address", "Street 2"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Renamed")
+                .jsonPath("$.email").isEqualTo("client@crm.com");
+        client.get().uri("/api/v1/clients/me")
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.content[0].name").isEqualTo("Renamed");
+        client.delete().uri("/api/v1/clients/{id}", created.id())
+                .header(HttpHeaders.AUTHORIZATION, seller)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Void.class);
+        client.get().uri("/api/v1/clients/{id}", created.id())
+                .header(HttpHeaders.AUTHORIZATION, admin)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(Void.class);
+
+        assertEquals(3, count("SELECT COUNT(*) FROM outbox_events WHERE aggregate_type = 'CLIENT' AND aggregate_id = "
+                + created.id()));
+        assertEquals(1, count("SELECT COUNT(*) FROM tombstones WHERE type = 'CLIENT' AND record_id = " + created.id()));
+    }
+
+    private LeadResponseDTO createLead(String token, String email) {
+        return client.post().uri("/api/v1/leads")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(leadBody(email))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(LeadResponseDTO.class)
+                .returnResult().getResponseBody();
+    }
+
+    private static Map<String, String> leadBody(String email) {
+        return Map.of("name", "Lead", "email", email, "phone", "11999999999", "origin", "site");
+    }
+
+    private void insertUser(Long id, String name, String email, String role) {
+        databaseClient.sql("INSERT INTO users (id, name, email, password, role) VALUES (:id, :name, :email, 'x', :role)")
+                .bind("id", id)
+                .bind("name", name)
+                .bind("email", email)
+                .bind("role", role)
+                .then().block();
+    }
+
+    private long count(String sql) {
+        return databaseClient.sql(sql).map(row -> row.get(0, Long.class)).one().block();
+    }
+
+    /**
+     * A token as the main application's {@code /api/v1/auth} issues it.
+     */
+    private static String token(Long userId, String email, String role) {
+        Date now = new Date();
+        return JwtUtils.JWT_BEARER + Jwts.builder()
+                .subject(email)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + Duration.ofHours(1).toMillis()))
+                .claim(JwtUtils.CLAIM_USER_ID, userId)
+                .claim(JwtUtils.CLAIM_ROLE, role)
+                .signWith(Keys.hmacShaKeyFor(JwtUtils.SECRET_KEY.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class SmallSendBufferConfig {
+
+        @Bean
+        NettyServerCustomizer smallSendBuffer() {
+            return server -> server.childOption(ChannelOption.SO_SNDBUF, SOCKET_BUFFER);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package tech.silva.connectcrm.reactive.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.ReactiveTransactionManager;
+import reactor.core.publisher.Flux;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("h2")
+class SequenceIdAllocatorTest {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    @BeforeEach
+    void resetSequence() {
+        databaseClient.sql("DROP TABLE IF EXISTS test_seq").then().block();
+        databaseClient.sql("CREATE TABLE test_seq (next_val BIGINT)").then().block();
+        databaseClient.sql("INSERT INTO test_seq VALUES (1)").then().block();
+    }
+
+    @Test
+    void skipsTheBlocksHibernateTakesOnAnEmptyTable() {
+        SequenceIdAllocator allocator = allocator();
+
+        assertEquals(ALLOCATION_SIZE + 2, allocator.nextId().block());
+        assertEquals(1 + 3 * ALLOCATION_SIZE, nextVal());
+    }
+
+    @Test
+    void neverHandsOutIdsOfABlockReservedByAnotherInstance() {
+        SequenceIdAllocator allocator = allocator();
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < ALLOCATION_SIZE; i++)
+            ids.add(allocator.nextId().block());
+
+        // another instance reserves the next block, as Hibernate's pooled optimizer would
+        long reservedByOther = nextVal();
+        databaseClient.sql("UPDATE test_seq SET next_val = next_val + " + ALLOCATION_SIZE).then().block();
+
+        for (int i = 0; i < ALLOCATION_SIZE; i++)
+            ids.add(allocator.nextId().block());
+
+        assertEquals(2 * ALLOCATION_SIZE, ids.size());
+        assertTrue(ids.stream().noneMatch(id -> id > reservedByOther - ALLOCATION_SIZE && id <= reservedByOther));
+    }
+
+    @Test
+    void concurrentCallersGetDistinctIds() {
+        SequenceIdAllocator allocator = allocator();
+
+        List<Long> ids = Flux.range(0, 500)
+                .flatMap(i -> allocator.nextId(), 32)
+                .collectList()
+                .block();
+
+        assertEquals(500, new HashSet<>(ids).size());
+    }
+
+    private SequenceIdAllocator allocator() {
+        return new SequenceIdAllocator("test_seq", ALLOCATION_SIZE, databaseClient, transactionManager);
+    }
+
+    private long nextVal() {
+        return databaseClient.sql("SELECT next_val FROM test_seq").map(row -> row.get(0, Long.class)).one().block();
+    }
+}
@@ -0,0 +1,74 @@
+-- Tables as Hibernate creates them for the main application on MySQL, including the tables it
+-- emulates sequences with (one next_val row, starting at 1)
+CREATE TABLE users (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255),
+    email VARCHAR(255) UNIQUE,
+    password VARCHAR(255),
+    role VARCHAR(255),
+    created_at DATETIME(6),
+    modified_at DATETIME(6),
+    created_by VARCHAR(255),
+    modified_by VARCHAR(255)
+);
+
+CREATE TABLE leads (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255),
+    email VARCHAR(255) NOT NULL UNIQUE,
+    phone VARCHAR(255),
+    origin VARCHAR(255),
+    status VARCHAR(255),
+    user_id BIGINT REFERENCES users (id),
+    created_at DATETIME(6) NOT NULL,
+    modified_at DATETIME(6) NOT NULL,
+    created_by VARCHAR(255) NOT NULL,
+    modified_by VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE clients (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255),
+    email VARCHAR(255) NOT NULL UNIQUE,
+    phone VARCHAR(255),
+    document VARCHAR(255),
+    address VARCHAR(255),
+    user_id BIGINT REFERENCES users (id),
+    created_at DATETIME(6) NOT NULL,
+    modified_at DATETIME(6) NOT NULL,
+    created_by VARCHAR(255) NOT NULL,
+    modified_by VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE tombstones (
+    id BIGINT NOT NULL PRIMARY KEY,
+    type VARCHAR(255) NOT NULL,
+    record_id BIGINT NOT NULL,
+    owner_id BIGINT NOT NULL,
+    deleted_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL PRIMARY KEY,
+    sequence_number BIGINT NOT NULL AUTO_INCREMENT UNIQUE,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    owner_id BIGINT,
+    payload LONGTEXT,
+    occurred_at DATETIME(6) NOT NULL,
+    origin VARCHAR(255),
+    published_at DATETIME(6),
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(1000),
+    parked_at DATETIME(6)
+);
+
+CREATE TABLE lead_seq (next_val BIGINT);
+INSERT INTO lead_seq VALUES (1);
+CREATE TABLE client_seq (next_val BIGINT);
+INSERT INTO client_seq VALUES (1);
+CREATE TABLE tombstone_seq (next_val BIGINT);
+INSERT INTO tombstone_seq VALUES (1);
+CREATE TABLE outbox_event_seq (next_val BIGINT);
+INSERT INTO outbox_event_seq VALUES (1);
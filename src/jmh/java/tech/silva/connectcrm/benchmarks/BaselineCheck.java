@@ -0,0 +1,101 @@
+package tech.silva.connectcrm.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result with the committed baseline and exits with status 1 when any
+ * benchmark got slower than the tolerance allows (all benchmarks here report time per operation).
+ * A slowdown only counts when it is beyond the tolerance and beyond the measurement noise, that is
+ * when the two 99.9% confidence intervals ({@code score ± scoreError}) do not overlap either; a
+ * baseline whose error alone exceeds the tolerance cannot gate anything and is flagged as noisy.
+ * Benchmarks missing from either file are listed but do not fail the check.
+ * <p>
+ * Usage: {@code BaselineCheck <result.json> <baseline.json> [tolerancePercent]}
+ */
+public final class BaselineCheck {
+
+    private static final double DEFAULT_TOLERANCE_PERCENT = 15;
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck <result.json> <baseline.json> [tolerancePercent]");
+            System.exit(2);
+        }
+        Map<String, Score> result = scores(new File(args[0]));
+        Map<String, Score> baseline = scores(new File(args[1]));
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE_PERCENT;
+
+        boolean regressed = false;
+        System.out.printf("%-70s %24s %24s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : result.entrySet()) {
+            Score current = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %24s %24s %9s%n", entry.getKey(), "-", current, "new");
+                continue;
+            }
+            double change = (current.score() - before.score()) / before.score() * 100;
+            boolean slower = change > tolerance && current.low() > before.high();
+            regressed |= slower;
+            System.out.printf("%-70s %24s %24s %+8.1f%%%s%s%n", entry.getKey(), before, current, change,
+                    slower ? "  REGRESSION" : "",
+                    before.relativeError() * 100 > tolerance ? "  NOISY BASELINE" : "");
+        }
+        baseline.keySet().stream()
+                .filter(name -> !result.containsKey(name))
+                .forEach(name -> System.out.printf("%-70s %24s %24s %9s%n", name, baseline.get(name), "-", "not run"));
+
+        if (regressed) {
+            System.out.printf("At least one benchmark is more than %.0f%% and its error margin slower than the baseline%n",
+                    tolerance);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> scores(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder name = new StringBuilder(run.get("benchmark").asText()
+                    .replace(BaselineCheck.class.getPackageName() + ".", ""));
+            JsonNode params = run.get("params");
+            if (params != null)
+                params.fields().forEachRemaining(param ->
+                        name.append(" [").append(param.getKey()).append('=').append(param.getValue().asText()).append(']'));
+            JsonNode metric = run.get("primaryMetric");
+            // JMH writes "NaN" as the error of a single-iteration run
+            double error = metric.get("scoreError").asDouble();
+            scores.put(name + " (" + metric.get("scoreUnit").asText() + ")",
+                    new Score(metric.get("score").asDouble(), Double.isNaN(error) ? 0 : error));
+        }
+        return scores;
+    }
+
+    private record Score(double score, double error) {
+
+        double low() {
+            return score - error;
+        }
+
+        double high() {
+            return score + error;
+        }
+
+        double relativeError() {
+            return error / score;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f +- %.3f", score, error);
+        }
+    }
+}
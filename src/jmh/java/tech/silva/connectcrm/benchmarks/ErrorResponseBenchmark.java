@@ -0,0 +1,67 @@
+package tech.silva.connectcrm.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MapBindingResult;
+import tech.silva.connectcrm.exceptions.ApiExceptionHandler;
+import tech.silva.connectcrm.exceptions.ErrorMessage;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of an error response in {@link ApiExceptionHandler}: the bare {@link ErrorMessage}, one
+ * carrying field errors, and a full not-found path including the exception's stack trace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class ErrorResponseBenchmark {
+
+    private MockHttpServletRequest request;
+    private BindingResult bindingResult;
+    private ApiExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/v1/leads/42");
+        bindingResult = new MapBindingResult(new HashMap<>(), "leadCreateDTO");
+        bindingResult.rejectValue("name", "NotBlank", "must not be blank");
+        bindingResult.rejectValue("email", "Email", "email format is invalid");
+        bindingResult.rejectValue("phone", "NotBlank", "must not be blank");
+        handler = new ApiExceptionHandler(new StaticMessageSource(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public ErrorMessage errorMessage() {
+        return new ErrorMessage(request, HttpStatus.NOT_FOUND, "Lead with Id= 42 not found");
+    }
+
+    @Benchmark
+    public ErrorMessage errorMessageWithFieldErrors() {
+        return new ErrorMessage(request, HttpStatus.UNPROCESSABLE_ENTITY, "Campo(s) inválidos", bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> notFoundThrownAndHandled() {
+        return handler.entityNotFoundException(new EntityNotFoundException("Lead with Id= 42 not found"), request);
+    }
+}
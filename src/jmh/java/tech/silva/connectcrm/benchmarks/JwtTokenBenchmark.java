@@ -0,0 +1,46 @@
+package tech.silva.connectcrm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.silva.connectcrm.jwt.JwtToken;
+import tech.silva.connectcrm.jwt.JwtUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login ({@code createToken}) and the validity check every authenticated request
+ * goes through ({@code isTokenValid}, served from the verified token LRU after the first call).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 2)
+@Fork(5)
+public class JwtTokenBenchmark {
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = JwtUtils.JWT_BEARER + JwtUtils.createToken(1L, "seller@connectcrm.com", "SELLER").getToken();
+    }
+
+    @Benchmark
+    public JwtToken createToken() {
+        return JwtUtils.createToken(1L, "seller@connectcrm.com", "SELLER");
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return JwtUtils.isTokenValid(token);
+    }
+}
@@ -0,0 +1,67 @@
+package tech.silva.connectcrm.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.silva.connectcrm.jwt.JwtUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of token verification in {@code JwtAuthorizationFilter}.
+ * <ul>
+ *     <li>{@code legacyDoubleParse}: what the filter used to do, rebuilding the key and the parser
+ *     and verifying the same token twice (isTokenValid, then getClaimsFromToken).</li>
+ *     <li>{@code singleParse}: one verification with the shared key and parser.</li>
+ *     <li>{@code cachedVerify}: a repeat request with a token already in the verified token LRU.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 2)
+@Fork(5)
+public class JwtVerificationBenchmark {
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = JwtUtils.JWT_BEARER + JwtUtils.createToken(1L, "seller@connectcrm.com", "SELLER").getToken();
+        JwtUtils.verify(token);
+    }
+
+    @Benchmark
+    public Claims legacyDoubleParse() {
+        String jwt = token.substring(JwtUtils.JWT_BEARER.length());
+        Jwts.parser().verifyWith(legacyKey()).build().parseSignedClaims(jwt);
+        return Jwts.parser().verifyWith(legacyKey()).build().parseSignedClaims(jwt).getPayload();
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return JwtUtils.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims cachedVerify() {
+        return JwtUtils.verify(token);
+    }
+
+    private static SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(JwtUtils.SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,66 @@
+package tech.silva.connectcrm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.silva.connectcrm.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.enums.StatusLead;
+import tech.silva.connectcrm.models.AppUser;
+import tech.silva.connectcrm.models.Client;
+import tech.silva.connectcrm.models.Lead;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response DTO mapping of whole lists, as done for search results, at a page size and at
+ * the size of a large unpaged listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class ResponseMappingBenchmark {
+
+    @Param({"50", "100000"})
+    private int size;
+
+    private List<Lead> leads;
+    private List<Client> clients;
+
+    @Setup
+    public void setUp() {
+        AppUser owner = new AppUser(1L, "Seller", "seller@connectcrm.com", "secret", Role.ROLE_SELLER);
+        leads = new ArrayList<>(size);
+        clients = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            leads.add(new Lead(i, "Lead " + i, "lead" + i + "@connectcrm.com", "11999990000", "site",
+                    StatusLead.values()[(int) (i % StatusLead.values().length)], owner));
+            clients.add(new Client(i, "Client " + i, "client" + i + "@connectcrm.com", "11999990000",
+                    "123.456.789-00", "Rua " + i, owner));
+        }
+    }
+
+    @Benchmark
+    public List<LeadResponseDTO> leadsToList() {
+        return LeadResponseDTO.toList(leads);
+    }
+
+    @Benchmark
+    public List<ClientResponseDTO> clientsToList() {
+        return ClientResponseDTO.toList(clients);
+    }
+}
@@ -0,0 +1,50 @@
+package tech.silva.connectcrm.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one endpoint on one worker thread. Not thread-safe: each worker owns its
+ * recorders and they are merged once the run is over.
+ */
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long latencyNanos, boolean error) {
+        if (count == nanos.length)
+            nanos = Arrays.copyOf(nanos, count * 2);
+        nanos[count++] = latencyNanos;
+        if (error)
+            errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > nanos.length)
+            nanos = Arrays.copyOf(nanos, count + other.count);
+        System.arraycopy(other.nanos, 0, nanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /** Sorts the samples; call once before reading percentiles. */
+    void sort() {
+        Arrays.sort(nanos, 0, count);
+    }
+
+    double percentileMillis(double percentile) {
+        if (count == 0)
+            return 0;
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return nanos[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+    }
+}
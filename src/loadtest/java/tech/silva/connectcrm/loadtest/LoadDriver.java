@@ -0,0 +1,136 @@
+package tech.silva.connectcrm.loadtest;
+
+import tech.silva.connectcrm.jwt.JwtUtils;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop driver: {@code concurrency} workers each send the next scripted request as soon as
+ * the previous one answered, as a random seller. Samples taken during the warmup are discarded.
+ */
+final class LoadDriver {
+
+    private final String baseUrl;
+    private final Workload workload;
+    private final int sellers;
+    private final long leads;
+    private final long clients;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String[] tokens;
+
+    LoadDriver(String baseUrl, Workload workload, int sellers, long leads, long clients,
+               int concurrency, Duration warmup, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.workload = workload;
+        this.sellers = sellers;
+        this.leads = leads;
+        this.clients = clients;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.tokens = new String[sellers + 1];
+        for (int seller = 1; seller <= sellers; seller++)
+            tokens[seller] = JwtUtils.JWT_BEARER
+                    + JwtUtils.createToken((long) seller, "seller" + seller + "@load.test", "SELLER").getToken();
+    }
+
+    void run(PrintStream out) throws InterruptedException {
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        List<Map<String, LatencyRecorder>> perWorker = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+            perWorker.add(recorders);
+            Thread worker = new Thread(() -> {
+                try {
+                    work(recorders, warmupEnd, end);
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        out.printf("Warming up for %s, then measuring for %s with %d workers%n", warmup, duration, concurrency);
+        done.await();
+
+        Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+        workload.operations().forEach(operation -> merged.put(operation.name(), new LatencyRecorder()));
+        for (Map<String, LatencyRecorder> recorders : perWorker)
+            recorders.forEach((name, recorder) -> merged.get(name).merge(recorder));
+        report(out, merged);
+    }
+
+    private void work(Map<String, LatencyRecorder> recorders, long warmupEnd, long end) {
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Workload.Operation operation = workload.next();
+            long sellerId = ThreadLocalRandom.current().nextLong(1, sellers + 1);
+            HttpRequest request = request(operation, sellerId);
+
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                error = response.statusCode() >= 400;
+            } catch (Exception ex) {
+                error = true;
+            }
+            if (now >= warmupEnd)
+                recorders.computeIfAbsent(operation.name(), name -> new LatencyRecorder())
+                        .record(System.nanoTime() - start, error);
+        }
+    }
+
+    private HttpRequest request(Workload.Operation operation, long sellerId) {
+        String path = operation.render(operation.path(), sellerId, sellers, leads, clients);
+        String body = operation.render(operation.body(), sellerId, sellers, leads, clients);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header(JwtUtils.JWT_AUTHORIZATION, tokens[(int) sellerId]);
+        if (body == null)
+            return builder.method(operation.method(), HttpRequest.BodyPublishers.noBody()).build();
+        return builder.header("Content-Type", "application/json")
+                .method(operation.method(), HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void report(PrintStream out, Map<String, LatencyRecorder> results) {
+        double seconds = duration.toMillis() / 1000.0;
+        LatencyRecorder total = new LatencyRecorder();
+        out.printf("%n%-60s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        results.forEach((name, recorder) -> {
+            total.merge(recorder);
+            print(out, name, recorder, seconds);
+        });
+        print(out, "TOTAL", total, seconds);
+    }
+
+    private static void print(PrintStream out, String name, LatencyRecorder recorder, double seconds) {
+        recorder.sort();
+        out.printf("%-60s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name.length() > 60 ? name.substring(0, 57) + "..." : name,
+                recorder.count(), recorder.errors(), recorder.count() / seconds,
+                recorder.percentileMillis(50), recorder.percentileMillis(99),
+                recorder.percentileMillis(99.9), recorder.percentileMillis(100));
+    }
+}
@@ -0,0 +1,61 @@
+package tech.silva.connectcrm.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileSystemUtils;
+import tech.silva.connectcrm.ConnectCrmApplication;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Boots the application on the {@code loadtest} profile (embedded H2, seeded by
+ * {@link LoadTestSeeder}), drives it with the workload script and prints throughput and latency
+ * percentiles per endpoint. Settings are the {@code loadtest.*} properties and can be overridden
+ * on the command line, e.g. {@code --loadtest.leads=5000000}.
+ */
+public final class LoadTest {
+
+    private static final Path DATA_DIR = Path.of("target", "loadtest");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        run(args);
+    }
+
+    static void run(String... args) throws IOException, InterruptedException {
+        // every run starts from an empty database and search index
+        FileSystemUtils.deleteRecursively(DATA_DIR);
+        // devtools would relaunch the app in a restart class loader and watch the classpath
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ConnectCrmApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            Environment env = context.getEnvironment();
+            Workload workload;
+            Resource script = context.getResource(env.getRequiredProperty("loadtest.workload"));
+            try (InputStream in = script.getInputStream()) {
+                workload = Workload.parse(in);
+            }
+            LoadDriver driver = new LoadDriver(
+                    "http://localhost:" + env.getRequiredProperty("local.server.port"),
+                    workload,
+                    env.getRequiredProperty("loadtest.sellers", Integer.class),
+                    env.getRequiredProperty("loadtest.leads", Long.class),
+                    env.getRequiredProperty("loadtest.clients", Long.class),
+                    env.getRequiredProperty("loadtest.concurrency", Integer.class),
+                    env.getRequiredProperty("loadtest.warmup", Duration.class),
+                    env.getRequiredProperty("loadtest.duration", Duration.class));
+            driver.run(System.out);
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package tech.silva.connectcrm.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import tech.silva.connectcrm.search.CrmSearchIndex;
+
+/**
+ * Fills the embedded H2 database before the application reports ready. Rows are generated inside
+ * the database with {@code INSERT ... SELECT FROM SYSTEM_RANGE}, so millions of leads never cross
+ * JDBC or JPA. The search index is rebuilt here as well, instead of in the background once the
+ * application is ready, so it does not compete with the measured requests.
+ * <p>
+ * Data is deterministic, which lets the driver address rows without reading them back:
+ * <ul>
+ *     <li>users {@code 1..sellers} are sellers {@code seller<N>@load.test}, followed by one admin and
+ *     one manager; every password is {@value #PASSWORD};</li>
+ *     <li>lead and client {@code N} belong to seller {@code ((N - 1) % sellers) + 1}.</li>
+ * </ul>
+ */
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LoadTestSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestSeeder.class);
+
+    static final String PASSWORD = "loadtest";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final CrmSearchIndex searchIndex;
+    private final int sellers;
+    private final long leads;
+    private final long clients;
+
+    public LoadTestSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, CrmSearchIndex searchIndex,
+                          @Value("${loadtest.sellers}") int sellers,
+                          @Value("${loadtest.leads}") long leads,
+                          @Value("${loadtest.clients}") long clients) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.searchIndex = searchIndex;
+        this.sellers = sellers;
+        this.leads = leads;
+        this.clients = clients;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        String hash = passwordEncoder.encode(PASSWORD);
+
+        jdbcTemplate.update("INSERT INTO users (id, name, email, password, role, created_at, modified_at, created_by, modified_by) " +
+                "SELECT n, 'Seller ' || n, 'seller' || n || '@load.test', ?, 'ROLE_SELLER', " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'loadtest', 'loadtest' FROM SYSTEM_RANGE(1, ?) r(n)", hash, sellers);
+        jdbcTemplate.update("INSERT INTO users (id, name, email, password, role, created_at, modified_at, created_by, modified_by) " +
+                "VALUES (?, 'Admin', 'admin@load.test', ?, 'ROLE_ADMIN', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'loadtest', 'loadtest'), " +
+                "(?, 'Manager', 'manager@load.test', ?, 'ROLE_MANAGER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'loadtest', 'loadtest')",
+                sellers + 1, hash, sellers + 2, hash);
+        log.info("Seeded {} users", sellers + 2);
+
+        jdbcTemplate.update("INSERT INTO leads (id, name, email, phone, origin, status, user_id, " +
+                "created_at, modified_at, created_by, modified_by) " +
+                "SELECT n, 'Lead ' || n, 'lead' || n || '@load.test', '119' || LPAD(CAST(MOD(n, 100000000) AS VARCHAR), 8, '0'), " +
+                "CASEWHEN(MOD(n, 3) = 0, 'site', CASEWHEN(MOD(n, 3) = 1, 'indicacao', 'instagram')), " +
+                "CASEWHEN(MOD(n, 10) < 6, 'NEW', CASEWHEN(MOD(n, 10) < 9, 'QUALIFIED', 'DISCARDED')), " +
+                "MOD(n - 1, ?) + 1, " +
+                "DATEADD('SECOND', -n, CURRENT_TIMESTAMP), DATEADD('SECOND', -n, CURRENT_TIMESTAMP), 'loadtest', 'loadtest' " +
+                "FROM SYSTEM_RANGE(1, ?) r(n)", sellers, leads);
+        log.info("Seeded {} leads", leads);
+
+        jdbcTemplate.update("INSERT INTO clients (id, name, email, phone, document, address, user_id, " +
+                "created_at, modified_at, created_by, modified_by) " +
+                "SELECT n, 'Client ' || n, 'client' || n || '@load.test', '119' || LPAD(CAST(MOD(n, 100000000) AS VARCHAR), 8, '0'), " +
+                "LPAD(CAST(n AS VARCHAR), 11, '0'), 'Rua ' || n || ', Sao Paulo', MOD(n - 1, ?) + 1, " +
+                "DATEADD('SECOND', -n, CURRENT_TIMESTAMP), DATEADD('SECOND', -n, CURRENT_TIMESTAMP), 'loadtest', 'loadtest' " +
+                "FROM SYSTEM_RANGE(1, ?) r(n)", sellers, clients);
+        log.info("Seeded {} clients", clients);
+
+        // pooled generators hand out (value - 50, value], so restart well past the seeded ids
+        restartSequence("app_user_seq", sellers + 2);
+        restartSequence("lead_seq", leads);
+        restartSequence("client_seq", clients);
+        searchIndex.rebuild();
+        log.info("Load test data seeded in {} ms", System.currentTimeMillis() - start);
+    }
+
+    private void restartSequence(String sequence, long maxId) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 100));
+    }
+}
@@ -0,0 +1,45 @@
+package tech.silva.connectcrm.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the load test twice, first on Tomcat's platform worker pool and then with
+ * {@code spring.threads.virtual.enabled}, each in a fresh JVM on a freshly seeded database so the
+ * second run does not inherit the first one's JIT warmup. The default concurrency is above
+ * Tomcat's 200 worker threads, so the platform run has to queue requests:
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.main=tech.silva.connectcrm.loadtest.ThreadModeComparison
+ * </pre>
+ * Both runs share {@code spring.datasource.hikari.maximum-pool-size}: virtual threads remove the
+ * worker limit, not the connection limit, so expect the gain on requests that spend their time
+ * waiting rather than on the database-bound ones.
+ */
+public final class ThreadModeComparison {
+
+    private static final String DEFAULT_CONCURRENCY = "--loadtest.concurrency=400";
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        boolean concurrencySet = Arrays.stream(args).anyMatch(arg -> arg.startsWith("--loadtest.concurrency="));
+        for (boolean virtual : new boolean[]{false, true}) {
+            System.out.printf("%n===== %s threads =====%n", virtual ? "Virtual" : "Platform");
+            List<String> command = new ArrayList<>();
+            command.add(ProcessHandle.current().info().command().orElse("java"));
+            command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+            command.addAll(List.of("-classpath", System.getProperty("java.class.path"), LoadTest.class.getName()));
+            command.addAll(Arrays.asList(args));
+            command.add("--spring.threads.virtual.enabled=" + virtual);
+            if (!concurrencySet)
+                command.add(DEFAULT_CONCURRENCY);
+            int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+            if (exitCode != 0)
+                throw new IllegalStateException("Load test run exited with " + exitCode);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package tech.silva.connectcrm.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted request mix read from a script with one request per line:
+ * <pre>
+ * weight METHOD /path?query [json body]
+ * </pre>
+ * Blank lines and lines starting with {@code #} are ignored. Paths and bodies may use
+ * {@code {ownLeadId}}, {@code {ownClientId}} (a random row owned by the calling seller),
+ * {@code {sellerId}}, {@code {status}} and {@code {uuid}}.
+ */
+final class Workload {
+
+    private static final String[] STATUSES = {"NEW", "QUALIFIED", "DISCARDED"};
+
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    private Workload(List<Operation> operations) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    static Workload parse(InputStream script) throws IOException {
+        List<Operation> operations = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(script, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+                String[] parts = line.split("\\s+", 4);
+                if (parts.length < 3)
+                    throw new IllegalArgumentException("Invalid workload line: " + line);
+                operations.add(new Operation(Integer.parseInt(parts[0]), parts[1], parts[2],
+                        parts.length == 4 ? parts[3] : null));
+            }
+        }
+        if (operations.isEmpty())
+            throw new IllegalArgumentException("Workload script has no requests");
+        return new Workload(operations);
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            pick -= operation.weight();
+            if (pick < 0)
+                return operation;
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    record Operation(int weight, String method, String path, String body) {
+
+        /** Label results are reported under. */
+        String name() {
+            return method + " " + path;
+        }
+
+        String render(String template, long sellerId, int sellers, long leads, long clients) {
+            if (template == null || template.indexOf('{') < 0)
+                return template;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return template
+                    .replace("{ownLeadId}", String.valueOf(ownedId(sellerId, sellers, leads, random)))
+                    .replace("{ownClientId}", String.valueOf(ownedId(sellerId, sellers, clients, random)))
+                    .replace("{sellerId}", String.valueOf(sellerId))
+                    .replace("{status}", STATUSES[random.nextInt(STATUSES.length)])
+                    .replace("{uuid}", UUID.randomUUID().toString());
+        }
+
+        /** Row {@code k * sellers + sellerId} belongs to the seller, see {@link LoadTestSeeder}. */
+        private static long ownedId(long sellerId, int sellers, long rows, ThreadLocalRandom random) {
+            long owned = Math.max(1, rows / sellers);
+            return random.nextLong(owned) * sellers + sellerId;
+        }
+    }
+}
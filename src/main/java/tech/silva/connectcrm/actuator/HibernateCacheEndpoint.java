@@ -0,0 +1,68 @@
+package tech.silva.connectcrm.actuator;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code /actuator/hibernatecache}: hit, miss and put counters of the second-level and query
+ * caches, per region, since startup or the last {@code DELETE} on the endpoint.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private final Statistics statistics;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public CacheStatistics cacheStatistics() {
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .forEach(name -> regions.put(name, RegionStatistics.of(statistics.getCacheRegionStatistics(name))));
+
+        return new CacheStatistics(
+                statistics.isStatisticsEnabled(),
+                new Counters(statistics.getSecondLevelCacheHitCount(),
+                        statistics.getSecondLevelCacheMissCount(),
+                        statistics.getSecondLevelCachePutCount()),
+                new Counters(statistics.getQueryCacheHitCount(),
+                        statistics.getQueryCacheMissCount(),
+                        statistics.getQueryCachePutCount()),
+                statistics.getPrepareStatementCount(),
+                regions);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+    }
+
+    public record CacheStatistics(boolean enabled, Counters secondLevel, Counters query,
+                                  long preparedStatements, Map<String, RegionStatistics> regions) {
+    }
+
+    public record Counters(long hits, long misses, long puts) {
+    }
+
+    public record RegionStatistics(long hits, long misses, long puts, long elementsInMemory) {
+        static RegionStatistics of(CacheRegionStatistics region) {
+            if (region == null)
+                return new RegionStatistics(0, 0, 0, 0);
+            return new RegionStatistics(region.getHitCount(), region.getMissCount(), region.getPutCount(),
+                    region.getElementCountInMemory());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package tech.silva.connectcrm.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@EnableAsync
+@Configuration
+public class SpringAsyncConfig {
+
+    /**
+     * Carries the caller's security context into {@code @Async} and streaming tasks, so auditing
+     * ({@link SpringJpaAuditingConfig}) sees the same user there. The holder keeps its default
+     * thread-local strategy: an inheritable one would leak contexts between pooled threads and is
+     * copied into every virtual thread.
+     */
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return task -> DelegatingSecurityContextRunnable.create(task, SecurityContextHolder.getContext());
+    }
+}
@@ -0,0 +1,62 @@
+package tech.silva.connectcrm.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import tech.silva.connectcrm.datasource.ReplicaDataSource;
+import tech.silva.connectcrm.enums.ReplicaSelection;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read-replica routing, enabled by {@code connectcrm.datasource.replica-urls}. The application
+ * {@link DataSource} is a {@link LazyConnectionDataSourceProxy}: a transaction only takes a
+ * physical connection at its first statement, after {@code @Transactional(readOnly = true)} has
+ * marked it read-only, so read-only transactions go to the replicas and everything else to the
+ * primary pool configured by {@code spring.datasource.*}.
+ * <p>
+ * Only reads that tolerate replica lag are read-only: the lead, client and user listings, lead
+ * search and the CSV exports, where a change shows up a moment late. Reads whose answer must include the caller's own
+ * latest writes stay in regular transactions on the primary: user lookups for login and JWT
+ * revalidation, the version queries behind ETags and 304s together with the pages and records
+ * served under those ETags, delta sync, catch-up exports and the ingest queue's depth and lag.
+ */
+@Configuration
+@ConditionalOnProperty(name = "connectcrm.datasource.replica-urls")
+public class SpringDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource, MeterRegistry meterRegistry,
+                                               @Value("${connectcrm.datasource.replica-urls}") List<String> urls,
+                                               @Value("${connectcrm.datasource.replica-selection}") ReplicaSelection selection,
+                                               @Value("${connectcrm.datasource.replica-connection-timeout}") Duration connectionTimeout,
+                                               @Value("${connectcrm.datasource.replica-retry-after}") Duration retryAfter) {
+        return new ReplicaDataSource(primaryDataSource, urls, primaryDataSource, selection, connectionTimeout, retryAfter,
+                new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        dataSource.setDefaultAutoCommit(primaryDataSource.isAutoCommit());
+        return dataSource;
+    }
+}
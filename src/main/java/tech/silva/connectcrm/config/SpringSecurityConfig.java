@@ -1,16 +1,25 @@
 package tech.silva.connectcrm.config;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import tech.silva.connectcrm.jwt.JwtAuthorizationFilter;
@@ -29,6 +38,7 @@ public class SpringSecurityConfig {
                 .formLogin(form -> form.disable())
                 .httpBasic(basic -> basic.disable())
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/register").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth").permitAll()
                         .requestMatchers(
@@ -38,6 +48,8 @@ public class SpringSecurityConfig {
                                 antMatcher("/swagger-ui/**"),
                                 antMatcher("/webjars/**")
                         ).permitAll()
+                        .requestMatchers(antMatcher("/actuator/health")).permitAll()
+                        .requestMatchers(antMatcher("/actuator/**")).hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(
@@ -49,6 +61,39 @@ public class SpringSecurityConfig {
                 .build();
     }
 
+    /**
+     * {@code /actuator/prometheus} for the metrics scraper, which cannot log in for a JWT: HTTP basic
+     * with the {@code connectcrm.metrics.scrape-*} credentials, or an admin token. Without a scrape
+     * password only admins get through.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain prometheusFilterChain(HttpSecurity http,
+                                                     @Value("${connectcrm.metrics.scrape-username}") String username,
+                                                     @Value("${connectcrm.metrics.scrape-password}") String password) throws Exception {
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (!password.isBlank())
+            scrapers.createUser(User.withUsername(username).password(password).roles("METRICS").build());
+        DaoAuthenticationProvider scraperAuthentication =
+                new DaoAuthenticationProvider(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        scraperAuthentication.setUserDetailsService(scrapers);
+
+        return http
+                .securityMatcher(antMatcher("/actuator/prometheus"))
+                .csrf(csrf -> csrf.disable())
+                .formLogin(form -> form.disable())
+                .httpBasic(Customizer.withDefaults())
+                .authenticationManager(new ProviderManager(scraperAuthentication))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasAnyRole("METRICS", "ADMIN"))
+                .sessionManagement(
+                        session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .addFilterBefore(
+                        jwtAuthorizationFilter(), UsernamePasswordAuthenticationFilter.class
+                )
+                .build();
+    }
+
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
         return new JwtAuthorizationFilter();
@@ -1,5 +1,6 @@
 package tech.silva.connectcrm.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -7,16 +8,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import tech.silva.connectcrm.dtos.client.ClientCreateDTO;
 import tech.silva.connectcrm.dtos.client.ClientResponseDTO;
 import tech.silva.connectcrm.dtos.client.ClientUpdateDTO;
 import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.dtos.page.CursorPageDTO;
+import tech.silva.connectcrm.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.enums.ExportFormat;
+import tech.silva.connectcrm.enums.Role;
 import tech.silva.connectcrm.exceptions.ErrorMessage;
+import tech.silva.connectcrm.export.ExportWriter;
 import tech.silva.connectcrm.jwt.JwtUserDetails;
 import tech.silva.connectcrm.models.Client;
 import tech.silva.connectcrm.models.Lead;
@@ -30,9 +41,11 @@ import java.util.List;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ObjectMapper objectMapper;
 
-    public ClientController(ClientService clientService) {
+    public ClientController(ClientService clientService, ObjectMapper objectMapper) {
         this.clientService = clientService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
@@ -57,46 +70,88 @@ public class ClientController {
 
     @Operation(
             summary = "List all clients",
-            description = "Returns a list of all clients (admin and manager only)",
+            description = "Returns a page of all clients ordered by id (admin and manager only). " +
+                    "Pass the returned nextCursor to fetch the following page",
             security = @SecurityRequirement(name = "security"),
             responses = {
                     @ApiResponse(responseCode = "200", description = "Clients successfully returned",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ClientResponseDTO.class))),
                     @ApiResponse(responseCode = "204", description = "No clients found"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "403", description = "Access denied",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
             }
     )
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
-    public ResponseEntity<List<ClientResponseDTO>> getAllClient() {
-        List<Client> clients = clientService.getAllClient();
+    public ResponseEntity<CursorPageDTO<ClientResponseDTO>> getAllClient(@RequestParam(required = false) String cursor,
+                                                                         @RequestParam(required = false) Integer size) {
+        int pageSize = CursorPageDTO.boundedSize(size);
+        List<ClientResponseDTO> clients = clientService.getAllClient(CursorPageDTO.decode(cursor), pageSize);
         if(clients.isEmpty())
             return ResponseEntity.noContent().build();
-        return ResponseEntity.ok().body(ClientResponseDTO.toList(clients));
+        return ResponseEntity.ok().body(CursorPageDTO.of(clients, pageSize, ClientResponseDTO::id));
     }
 
     @Operation(
             summary = "List clients from authenticated seller",
-            description = "Returns all clients associated with the authenticated seller",
+            description = "Returns a page of the clients associated with the authenticated seller. " +
+                    "Pass the returned nextCursor to fetch the following page",
             security = @SecurityRequirement(name = "security"),
             responses = {
                     @ApiResponse(responseCode = "200", description = "Clients successfully returned",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ClientResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent by the client"),
                     @ApiResponse(responseCode = "204", description = "No clients found"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "403", description = "Access denied",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
             }
     )
     @GetMapping("/me")
     @PreAuthorize("hasRole('SELLER')")
-    public ResponseEntity<List<ClientResponseDTO>> getMyClients(@AuthenticationPrincipal JwtUserDetails userDetails) {
-        List<Client> clients = clientService.getMyClients(userDetails.getId());
+    public ResponseEntity<CursorPageDTO<ClientResponseDTO>> getMyClients(@RequestParam(required = false) String cursor,
+                                                                         @RequestParam(required = false) Integer size,
+                                                                         @AuthenticationPrincipal JwtUserDetails userDetails,
+                                                                         WebRequest request) {
+        int pageSize = CursorPageDTO.boundedSize(size);
+        CollectionVersionDTO version = clientService.getMyClientsVersion(userDetails.getId());
+        if (request.checkNotModified(version.eTag(userDetails.getId(), cursor, pageSize)))
+            return null;
+        List<ClientResponseDTO> clients = clientService.getMyClients(userDetails.getId(), CursorPageDTO.decode(cursor), pageSize);
         if (!clients.isEmpty())
-            return ResponseEntity.ok().body(ClientResponseDTO.toList(clients));
+            return ResponseEntity.ok().body(CursorPageDTO.of(clients, pageSize, ClientResponseDTO::id));
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(
+            summary = "Export all clients",
+            description = "Streams every client as NDJSON (one JSON document per line) or CSV (admin and manager only)",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Clients export streamed",
+                            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportClients(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = out -> {
+            ExportWriter<ClientResponseDTO> writer =
+                    new ExportWriter<>(out, format, objectMapper, ClientResponseDTO.CSV_HEADER, ClientResponseDTO::toCsvRow);
+            clientService.exportClients(writer::write);
+            writer.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=clients." + format.getExtension())
+                .body(body);
+    }
+
     @Operation(
             summary = "Get client by ID",
             description = "Returns a specific client if it belongs to the authenticated user or user has permission",
@@ -104,6 +159,7 @@ public class ClientController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Client successfully returned",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ClientResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag or Last-Modified sent by the client"),
                     @ApiResponse(responseCode = "404", description = "Client not found",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "400", description = "Client not available for this user",
@@ -114,8 +170,13 @@ public class ClientController {
     )
     @GetMapping("/{id}")
     public ResponseEntity<ClientResponseDTO> getClientById(@PathVariable Long id,
-                                                           @AuthenticationPrincipal JwtUserDetails userDetails) {
-        Client client = clientService.getClientById(id, userDetails.getId());
+                                                           @AuthenticationPrincipal JwtUserDetails userDetails,
+                                                           WebRequest request) {
+        Role role = Role.valueOf(userDetails.getRole());
+        EntityVersionDTO version = clientService.getClientVersion(id, userDetails.getId(), role);
+        if (request.checkNotModified(version.eTag(), version.lastModified()))
+            return null;
+        Client client = clientService.getClientById(id, userDetails.getId(), role);
         return ResponseEntity.ok().body(ClientResponseDTO.toClientDto(client));
     }
 
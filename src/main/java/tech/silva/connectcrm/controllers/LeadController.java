@@ -1,5 +1,6 @@
 package tech.silva.connectcrm.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -7,19 +8,46 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import tech.silva.connectcrm.dtos.lead.LeadUpdateDTO;
 import tech.silva.connectcrm.dtos.lead.LeadCreateDTO;
+import tech.silva.connectcrm.dtos.lead.LeadFeedEventDTO;
+import tech.silva.connectcrm.dtos.lead.LeadImportResultDTO;
 import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.dtos.lead.LeadSearchDTO;
+import tech.silva.connectcrm.dtos.lead.LeadStatusUpdateDTO;
+import tech.silva.connectcrm.dtos.lead.LeadStatusUpdateResultDTO;
+import tech.silva.connectcrm.dtos.page.CursorPageDTO;
+import tech.silva.connectcrm.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.dtos.page.PageResponseDTO;
+import tech.silva.connectcrm.enums.ExportFormat;
+import tech.silva.connectcrm.enums.Role;
 import tech.silva.connectcrm.exceptions.ErrorMessage;
+import tech.silva.connectcrm.export.ExportWriter;
+import tech.silva.connectcrm.feed.LeadFeed;
+import tech.silva.connectcrm.ingest.LeadIngestionQueue;
 import tech.silva.connectcrm.jwt.JwtUserDetails;
 import tech.silva.connectcrm.models.Lead;
+import tech.silva.connectcrm.services.LeadImportService;
 import tech.silva.connectcrm.services.LeadService;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -28,9 +56,18 @@ import java.util.List;
 public class LeadController {
 
     private final LeadService leadService;
+    private final LeadImportService leadImportService;
+    private final ObjectMapper objectMapper;
+    private final LeadFeed leadFeed;
+    private final LeadIngestionQueue leadIngestionQueue;
 
-    public LeadController(LeadService leadService) {
+    public LeadController(LeadService leadService, LeadImportService leadImportService, ObjectMapper objectMapper,
+                          LeadFeed leadFeed, LeadIngestionQueue leadIngestionQueue) {
         this.leadService = leadService;
+        this.leadImportService = leadImportService;
+        this.objectMapper = objectMapper;
+        this.leadFeed = leadFeed;
+        this.leadIngestionQueue = leadIngestionQueue;
     }
 
     @Operation(
@@ -53,48 +90,173 @@ public class LeadController {
         return ResponseEntity.status(HttpStatus.CREATED).body(LeadResponseDTO.toLeadDto(lead));
     }
 
+    @Operation(
+            summary = "Ingest a lead",
+            description = "Queues a lead for the authenticated user and answers as soon as it is stored. The lead is " +
+                    "written shortly after in a batch; a lead whose email is already registered is dropped then " +
+                    "instead of being rejected here",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Lead queued"),
+                    @ApiResponse(responseCode = "422", description = "Invalid input fields",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @PostMapping("/ingest")
+    public ResponseEntity<Void> ingestLead(@RequestBody @Valid LeadCreateDTO leadDTO,
+                                           @AuthenticationPrincipal JwtUserDetails userDetails) {
+        leadIngestionQueue.enqueue(leadDTO, userDetails.getId(), userDetails.getUsername());
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(
+            summary = "Bulk import leads",
+            description = "Imports leads from a CSV body with the header name,email,phone,origin, associated with the " +
+                    "authenticated user. Invalid or already registered rows are skipped and reported in the result",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import finished",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeadImportResultDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid CSV header",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<LeadImportResultDTO> importLeads(InputStream csv,
+                                                           @AuthenticationPrincipal JwtUserDetails userDetails) throws IOException {
+        LeadImportResultDTO result = leadImportService.importCsv(csv, userDetails.getId());
+        return ResponseEntity.ok().body(result);
+    }
+
     @Operation(
             summary = "List all leads",
-            description = "Returns a list of all leads (admin and manager only)",
+            description = "Returns a page of all leads ordered by id (admin and manager only). " +
+                    "Pass the returned nextCursor to fetch the following page",
             security = @SecurityRequirement(name = "security"),
             responses = {
                     @ApiResponse(responseCode = "200", description = "Leads successfully returned",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeadResponseDTO.class))),
                     @ApiResponse(responseCode = "204", description = "No leads found"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "403", description = "Access denied",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
             }
     )
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
-    public ResponseEntity<List<LeadResponseDTO>> getAll() {
-        List<Lead> leads = leadService.listAllLeads();
+    public ResponseEntity<CursorPageDTO<LeadResponseDTO>> getAll(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        int pageSize = CursorPageDTO.boundedSize(size);
+        List<LeadResponseDTO> leads = leadService.listAllLeads(CursorPageDTO.decode(cursor), pageSize);
         if (!leads.isEmpty())
-            return ResponseEntity.ok().body(LeadResponseDTO.toList(leads));
+            return ResponseEntity.ok().body(CursorPageDTO.of(leads, pageSize, LeadResponseDTO::id));
         return ResponseEntity.noContent().build();
     }
 
     @Operation(
             summary = "List leads from authenticated seller",
-            description = "Returns all leads associated with the authenticated seller",
+            description = "Returns a page of the leads associated with the authenticated seller. " +
+                    "Pass the returned nextCursor to fetch the following page",
             security = @SecurityRequirement(name = "security"),
             responses = {
                     @ApiResponse(responseCode = "200", description = "Leads successfully returned",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeadResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent by the client"),
                     @ApiResponse(responseCode = "204", description = "No leads found"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "403", description = "Access denied",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
             }
     )
     @GetMapping("/me")
     @PreAuthorize("hasRole('SELLER')")
-    public ResponseEntity<List<LeadResponseDTO>> getMyLeads(@AuthenticationPrincipal JwtUserDetails userDetails) {
-        List<Lead> leads = leadService.getMyLeads(userDetails.getId());
+    public ResponseEntity<CursorPageDTO<LeadResponseDTO>> getMyLeads(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer size,
+                                                                     @AuthenticationPrincipal JwtUserDetails userDetails,
+                                                                     WebRequest request) {
+        int pageSize = CursorPageDTO.boundedSize(size);
+        CollectionVersionDTO version = leadService.getMyLeadsVersion(userDetails.getId());
+        if (request.checkNotModified(version.eTag(userDetails.getId(), cursor, pageSize)))
+            return null;
+        List<LeadResponseDTO> leads = leadService.getMyLeads(userDetails.getId(), CursorPageDTO.decode(cursor), pageSize);
         if (!leads.isEmpty())
-            return ResponseEntity.ok().body(LeadResponseDTO.toList(leads));
+            return ResponseEntity.ok().body(CursorPageDTO.of(leads, pageSize, LeadResponseDTO::id));
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(
+            summary = "Search leads",
+            description = "Filters leads by status, origin, owner and creation date range with sorting and pagination. " +
+                    "Sellers only get their own leads, the owner filter is applied for admins and managers",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Leads successfully returned",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid filter or sort property",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping("/search")
+    public ResponseEntity<PageResponseDTO<LeadResponseDTO>> searchLeads(
+            @ParameterObject LeadSearchDTO filter,
+            @ParameterObject @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal JwtUserDetails userDetails) {
+        Page<Lead> leads = leadService.searchLeads(filter, userDetails.getId(), Role.valueOf(userDetails.getRole()), pageable);
+        return ResponseEntity.ok().body(PageResponseDTO.of(leads, LeadResponseDTO::toList));
+    }
+
+    @Operation(
+            summary = "Export all leads",
+            description = "Streams every lead as NDJSON (one JSON document per line) or CSV (admin and manager only)",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Leads export streamed",
+                            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') OR hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportLeads(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = out -> {
+            ExportWriter<LeadResponseDTO> writer =
+                    new ExportWriter<>(out, format, objectMapper, LeadResponseDTO.CSV_HEADER, LeadResponseDTO::toCsvRow);
+            leadService.exportLeads(writer::write);
+            writer.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=leads." + format.getExtension())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Live lead feed",
+            description = "Server-Sent Events stream of lead creations, updates, status changes and deletions. " +
+                    "Sellers receive events for their own leads, admins and managers for all leads. The event name is " +
+                    "the change type and the data a JSON document; a heartbeat comment is sent while idle",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event stream opened",
+                            content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = LeadFeedEventDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLeads(@AuthenticationPrincipal JwtUserDetails userDetails) {
+        return leadFeed.subscribe(userDetails.getId(), Role.valueOf(userDetails.getRole()));
+    }
+
     @Operation(
             summary = "Get lead by ID",
             description = "Returns a specific lead if it belongs to the authenticated user or user has permission",
@@ -102,6 +264,7 @@ public class LeadController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Lead successfully returned",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeadResponseDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag or Last-Modified sent by the client"),
                     @ApiResponse(responseCode = "404", description = "Lead not found",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "400", description = "Lead not available for this user",
@@ -112,8 +275,13 @@ public class LeadController {
     )
     @GetMapping("/{id}")
     public ResponseEntity<LeadResponseDTO> getLeadsById(@PathVariable Long id,
-                                                        @AuthenticationPrincipal JwtUserDetails userDetails) {
-        Lead lead = leadService.getLeadById(id, userDetails.getId());
+                                                        @AuthenticationPrincipal JwtUserDetails userDetails,
+                                                        WebRequest request) {
+        Role role = Role.valueOf(userDetails.getRole());
+        EntityVersionDTO version = leadService.getLeadVersion(id, userDetails.getId(), role);
+        if (request.checkNotModified(version.eTag(), version.lastModified()))
+            return null;
+        Lead lead = leadService.getLeadById(id, userDetails.getId(), role);
         return ResponseEntity.ok().body(LeadResponseDTO.toLeadDto(lead));
     }
 
@@ -142,6 +310,28 @@ public class LeadController {
         return ResponseEntity.ok().body(LeadResponseDTO.toLeadDto(lead));
     }
 
+    @Operation(
+            summary = "Bulk change lead status",
+            description = "Moves a set of leads to a new status in one statement. Sellers can only change their own leads, " +
+                    "admins and managers any lead. Returns how many leads actually changed",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Status change applied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = LeadStatusUpdateResultDTO.class))),
+                    @ApiResponse(responseCode = "422", description = "Invalid input fields",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @PatchMapping("/status")
+    public ResponseEntity<LeadStatusUpdateResultDTO> updateStatus(@RequestBody @Valid LeadStatusUpdateDTO statusDTO,
+                                                                  @AuthenticationPrincipal JwtUserDetails userDetails) {
+        int updated = leadService.updateStatus(statusDTO.ids(), statusDTO.status(),
+                userDetails.getId(), Role.valueOf(userDetails.getRole()));
+        return ResponseEntity.ok().body(new LeadStatusUpdateResultDTO(statusDTO.status(), statusDTO.ids().size(), updated));
+    }
+
     @Operation(
             summary = "Delete lead",
             description = "Deletes a lead if it belongs to the authenticated user",
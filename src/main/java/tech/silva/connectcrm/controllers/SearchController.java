@@ -0,0 +1,56 @@
+package tech.silva.connectcrm.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import tech.silva.connectcrm.dtos.search.SearchHitDTO;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.enums.SearchDocumentType;
+import tech.silva.connectcrm.exceptions.ErrorMessage;
+import tech.silva.connectcrm.jwt.JwtUserDetails;
+import tech.silva.connectcrm.services.SearchService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@Tag(name = "Search", description = "Full-text search over leads and clients")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Operation(
+            summary = "Search leads and clients",
+            description = "Matches partial names, email fragments, phones and addresses with prefix and fuzzy matching. " +
+                    "Sellers only get results they own",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Search results returned",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SearchHitDTO.class))),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping
+    public ResponseEntity<List<SearchHitDTO>> search(@RequestParam("q") String query,
+                                                     @RequestParam(required = false) SearchDocumentType type,
+                                                     @RequestParam(required = false) Integer limit,
+                                                     @AuthenticationPrincipal JwtUserDetails userDetails) {
+        List<SearchHitDTO> hits = searchService.search(
+                query, type, userDetails.getId(), Role.valueOf(userDetails.getRole()), limit);
+        return ResponseEntity.ok().body(hits);
+    }
+}
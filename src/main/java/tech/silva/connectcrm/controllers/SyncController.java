@@ -0,0 +1,58 @@
+package tech.silva.connectcrm.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import tech.silva.connectcrm.dtos.page.CursorPageDTO;
+import tech.silva.connectcrm.dtos.sync.SyncChangesDTO;
+import tech.silva.connectcrm.exceptions.ErrorMessage;
+import tech.silva.connectcrm.jwt.JwtUserDetails;
+import tech.silva.connectcrm.services.SyncService;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@Tag(name = "Sync", description = "Delta sync of a seller's leads and clients for offline-capable apps")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @Operation(
+            summary = "Changes since a sync token",
+            description = "Returns the authenticated seller's leads and clients created or modified since the token, " +
+                    "plus the ids of deleted ones. Omit the token for a full sync and send the returned syncToken " +
+                    "on the next call; repeat immediately while hasMore is true",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Changes returned",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SyncChangesDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid sync token",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "410", description = "Sync token too old, a full sync is required",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Access denied",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping
+    @PreAuthorize("hasRole('SELLER')")
+    public ResponseEntity<SyncChangesDTO> changes(@RequestParam(required = false) String token,
+                                                  @RequestParam(required = false) Integer size,
+                                                  @AuthenticationPrincipal JwtUserDetails userDetails) {
+        SyncChangesDTO changes = syncService.changesSince(token, userDetails.getId(), CursorPageDTO.boundedSize(size));
+        return ResponseEntity.ok().body(changes);
+    }
+}
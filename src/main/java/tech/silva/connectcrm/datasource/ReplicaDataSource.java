@@ -0,0 +1,125 @@
+package tech.silva.connectcrm.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import tech.silva.connectcrm.enums.ReplicaSelection;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections for read-only transactions, spread over one pool per replica. Each call starts at
+ * the next replica in turn ({@link ReplicaSelection#ROUND_ROBIN}) or at the one with the fewest
+ * connections in use ({@link ReplicaSelection#LEAST_LOADED}) and moves on to the other replicas
+ * when a replica cannot hand out a connection. A replica that failed is skipped for
+ * {@code retryAfter}; when none is usable the connection comes from the primary.
+ * <p>
+ * Replicas lag behind the primary: a read-only transaction right after a write may not see it.
+ * {@code SpringDataSourceConfig} lists which reads accept that.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final DataSource primary;
+    private final ReplicaSelection selection;
+    private final long retryAfterMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param template pool settings shared by every replica, usually the primary's configuration;
+     *                 only the JDBC URL and the pool name differ
+     */
+    public ReplicaDataSource(HikariConfig template, List<String> urls, DataSource primary,
+                             ReplicaSelection selection, Duration connectionTimeout, Duration retryAfter,
+                             MetricsTrackerFactory metricsTrackerFactory) {
+        this.primary = primary;
+        this.selection = selection;
+        this.retryAfterMillis = retryAfter.toMillis();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            template.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i));
+            config.setPoolName("replica-" + (i + 1));
+            config.setReadOnly(true);
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            // a replica that is down at startup must not keep the application from starting
+            config.setInitializationFailTimeout(-1);
+            config.setMetricRegistry(null);
+            config.setMetricsTrackerFactory(metricsTrackerFactory);
+            replicas.add(new Replica(new HikariDataSource(config)));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int start = start();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.failedAt + retryAfterMillis > now)
+                continue;
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.failedAt = 0;
+                return connection;
+            } catch (SQLException ex) {
+                replica.failedAt = now;
+                log.warn("Replica {} unavailable, skipping it for {} ms: {}",
+                        replica.pool.getPoolName(), retryAfterMillis, ex.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Replica connections use the configured credentials");
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private int start() {
+        int roundRobin = Math.floorMod(next.getAndIncrement(), replicas.size());
+        if (selection == ReplicaSelection.ROUND_ROBIN)
+            return roundRobin;
+        // least loaded, ties broken by the round-robin position so idle replicas still share the work
+        int best = roundRobin;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (roundRobin + i) % replicas.size();
+            HikariPoolMXBean pool = replicas.get(index).pool.getHikariPoolMXBean();
+            int active = pool == null ? 0 : pool.getActiveConnections();
+            if (active < bestActive) {
+                best = index;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private volatile long failedAt;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
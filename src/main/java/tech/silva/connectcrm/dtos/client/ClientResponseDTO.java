@@ -1,7 +1,9 @@
 package tech.silva.connectcrm.dtos.client;
 
 import tech.silva.connectcrm.dtos.user.UserResponseDTO;
+import tech.silva.connectcrm.enums.Role;
 import tech.silva.connectcrm.models.Client;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,6 +16,18 @@ public record ClientResponseDTO(
         String address,
         UserResponseDTO user
 ) {
+    public static final List<String> CSV_HEADER =
+            List.of("id", "name", "email", "phone", "document", "address", "userId", "userName", "userEmail");
+
+    /**
+     * Flat constructor used by JPQL constructor expressions, so list queries select only the
+     * client and owner columns this response needs.
+     */
+    public ClientResponseDTO(Long id, String name, String email, String phone, String document, String address,
+                             Long userId, String userName, String userEmail, Role userRole) {
+        this(id, name, email, phone, document, address, new UserResponseDTO(userId, userName, userEmail, userRole));
+    }
+
     public static ClientResponseDTO toClientDto(Client client){
         return new ClientResponseDTO(
                 client.getId(),
@@ -30,4 +44,11 @@ public record ClientResponseDTO(
         return clients.stream().
                 map(client -> toClientDto(client)).collect(Collectors.toList());
     }
+
+    public static List<Object> toCsvRow(ClientResponseDTO client){
+        return Arrays.asList(
+                client.id, client.name, client.email, client.phone, client.document, client.address,
+                client.user.id(), client.user.name(), client.user.email()
+        );
+    }
 }
@@ -0,0 +1,20 @@
+package tech.silva.connectcrm.dtos.lead;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tech.silva.connectcrm.enums.DomainEventType;
+import tech.silva.connectcrm.enums.StatusLead;
+
+/**
+ * Data of one live feed event. {@code lead} is set for creations and updates, the two statuses
+ * for status changes; deletions only carry the ids.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LeadFeedEventDTO(
+        DomainEventType type,
+        Long leadId,
+        Long ownerId,
+        LeadResponseDTO lead,
+        StatusLead previousStatus,
+        StatusLead status
+) {
+}
@@ -0,0 +1,8 @@
+package tech.silva.connectcrm.dtos.lead;
+
+public record LeadImportErrorDTO(
+        long line,
+        String email,
+        String message
+) {
+}
@@ -0,0 +1,15 @@
+package tech.silva.connectcrm.dtos.lead;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} lists at most the first
+ * {@code LeadImportService.MAX_REPORTED_ERRORS} rejected rows; {@code rejected} is the full count.
+ */
+public record LeadImportResultDTO(
+        long totalRows,
+        long imported,
+        long rejected,
+        List<LeadImportErrorDTO> errors
+) {
+}
@@ -1,9 +1,11 @@
 package tech.silva.connectcrm.dtos.lead;
 
 import tech.silva.connectcrm.dtos.user.UserResponseDTO;
+import tech.silva.connectcrm.enums.Role;
 import tech.silva.connectcrm.enums.StatusLead;
 import tech.silva.connectcrm.models.Lead;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,6 +18,18 @@ public record LeadResponseDTO(
         StatusLead status,
         UserResponseDTO user
 ) {
+    public static final List<String> CSV_HEADER =
+            List.of("id", "name", "email", "phone", "origin", "status", "userId", "userName", "userEmail");
+
+    /**
+     * Flat constructor used by JPQL constructor expressions, so list queries select only the
+     * lead and owner columns this response needs.
+     */
+    public LeadResponseDTO(Long id, String name, String email, String phone, String origin, StatusLead status,
+                           Long userId, String userName, String userEmail, Role userRole) {
+        this(id, name, email, phone, origin, status, new UserResponseDTO(userId, userName, userEmail, userRole));
+    }
+
     public static LeadResponseDTO toLeadDto(Lead lead){
         return new LeadResponseDTO(
                 lead.getId(),
@@ -32,4 +46,11 @@ public record LeadResponseDTO(
         return leads.stream().
                 map(lead -> toLeadDto(lead)).collect(Collectors.toList());
     }
+
+    public static List<Object> toCsvRow(LeadResponseDTO lead){
+        return Arrays.asList(
+                lead.id, lead.name, lead.email, lead.phone, lead.origin, lead.status,
+                lead.user.id(), lead.user.name(), lead.user.email()
+        );
+    }
 }
@@ -0,0 +1,17 @@
+package tech.silva.connectcrm.dtos.lead;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import tech.silva.connectcrm.enums.StatusLead;
+
+import java.time.LocalDateTime;
+
+public record LeadSearchDTO(
+        StatusLead status,
+        String origin,
+        Long ownerId,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdTo
+) {
+}
@@ -0,0 +1,6 @@
+package tech.silva.connectcrm.dtos.lead;
+
+import tech.silva.connectcrm.enums.StatusLead;
+
+public record LeadStatusDTO(Long id, Long ownerId, StatusLead status) {
+}
@@ -0,0 +1,10 @@
+package tech.silva.connectcrm.dtos.lead;
+
+import tech.silva.connectcrm.enums.StatusLead;
+
+public record LeadStatusUpdateResultDTO(
+        StatusLead status,
+        int requested,
+        int updated
+) {
+}
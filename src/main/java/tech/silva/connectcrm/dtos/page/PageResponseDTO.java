@@ -0,0 +1,24 @@
+package tech.silva.connectcrm.dtos.page;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record PageResponseDTO<T>(
+        List<T> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+    public static <E, T> PageResponseDTO<T> of(Page<E> page, Function<List<E>, List<T>> mapper) {
+        return new PageResponseDTO<>(
+                mapper.apply(page.getContent()),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+}
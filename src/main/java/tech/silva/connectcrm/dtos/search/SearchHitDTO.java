@@ -0,0 +1,14 @@
+package tech.silva.connectcrm.dtos.search;
+
+import tech.silva.connectcrm.enums.SearchDocumentType;
+
+public record SearchHitDTO(
+        SearchDocumentType type,
+        Long id,
+        String name,
+        String email,
+        String phone,
+        Long ownerId,
+        float score
+) {
+}
@@ -0,0 +1,18 @@
+package tech.silva.connectcrm.dtos.sync;
+
+import tech.silva.connectcrm.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.enums.Role;
+
+import java.time.LocalDateTime;
+
+public record ClientChangeDTO(ClientResponseDTO client, LocalDateTime modifiedAt) {
+
+    /**
+     * Flat constructor used by JPQL constructor expressions.
+     */
+    public ClientChangeDTO(Long id, String name, String email, String phone, String document, String address,
+                           Long userId, String userName, String userEmail, Role userRole, LocalDateTime modifiedAt) {
+        this(new ClientResponseDTO(id, name, email, phone, document, address, userId, userName, userEmail, userRole),
+                modifiedAt);
+    }
+}
@@ -0,0 +1,19 @@
+package tech.silva.connectcrm.dtos.sync;
+
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.enums.StatusLead;
+
+import java.time.LocalDateTime;
+
+public record LeadChangeDTO(LeadResponseDTO lead, LocalDateTime modifiedAt) {
+
+    /**
+     * Flat constructor used by JPQL constructor expressions.
+     */
+    public LeadChangeDTO(Long id, String name, String email, String phone, String origin, StatusLead status,
+                         Long userId, String userName, String userEmail, Role userRole, LocalDateTime modifiedAt) {
+        this(new LeadResponseDTO(id, name, email, phone, origin, status, userId, userName, userEmail, userRole),
+                modifiedAt);
+    }
+}
@@ -0,0 +1,17 @@
+package tech.silva.connectcrm.dtos.sync;
+
+import java.util.List;
+
+/**
+ * Changes since the token a client sent. Apply {@code leads} and {@code clients} as upserts and
+ * {@code deleted} as removals, then store {@code syncToken} for the next call. When
+ * {@code hasMore} is set, call again right away with the new token.
+ */
+public record SyncChangesDTO(
+        List<LeadChangeDTO> leads,
+        List<ClientChangeDTO> clients,
+        List<TombstoneDTO> deleted,
+        String syncToken,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,17 @@
+package tech.silva.connectcrm.dtos.sync;
+
+import java.time.LocalDateTime;
+
+/**
+ * Point in a {@code (timestamp, id)} ordered change stream: everything at or before it has been
+ * delivered. The id breaks ties between rows written in the same instant.
+ */
+public record SyncPosition(LocalDateTime at, long id) {
+
+    public static final SyncPosition ORIGIN = new SyncPosition(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    /** Position after every row up to and including {@code at}. */
+    public static SyncPosition endOf(LocalDateTime at) {
+        return new SyncPosition(at, Long.MAX_VALUE);
+    }
+}
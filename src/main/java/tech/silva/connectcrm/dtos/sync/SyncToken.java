@@ -0,0 +1,50 @@
+package tech.silva.connectcrm.dtos.sync;
+
+import tech.silva.connectcrm.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque, server-issued delta sync token: how far the client has read the lead, client and
+ * tombstone change streams.
+ */
+public record SyncToken(SyncPosition leads, SyncPosition clients, SyncPosition deletions) {
+
+    private static final String TOKEN_PREFIX = "v1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Starting point of a full sync: every live row, and no tombstone older than the snapshot
+     * because the client holds nothing that could have been deleted.
+     */
+    public static SyncToken initial(LocalDateTime until) {
+        return new SyncToken(SyncPosition.ORIGIN, SyncPosition.ORIGIN, SyncPosition.endOf(until));
+    }
+
+    public String encode() {
+        String value = String.join(SEPARATOR, TOKEN_PREFIX,
+                leads.at().toString(), String.valueOf(leads.id()),
+                clients.at().toString(), String.valueOf(clients.id()),
+                deletions.at().toString(), String.valueOf(deletions.id()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR);
+            if (parts.length != 7 || !parts[0].equals(TOKEN_PREFIX))
+                throw new InvalidCursorException(String.format("Sync token %s is not valid", token));
+            return new SyncToken(position(parts[1], parts[2]), position(parts[3], parts[4]), position(parts[5], parts[6]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException(String.format("Sync token %s is not valid", token));
+        }
+    }
+
+    private static SyncPosition position(String at, String id) {
+        return new SyncPosition(LocalDateTime.parse(at), Long.parseLong(id));
+    }
+}
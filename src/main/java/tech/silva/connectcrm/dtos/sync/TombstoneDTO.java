@@ -0,0 +1,8 @@
+package tech.silva.connectcrm.dtos.sync;
+
+import tech.silva.connectcrm.enums.RecordType;
+
+import java.time.LocalDateTime;
+
+public record TombstoneDTO(Long tombstoneId, RecordType type, Long id, LocalDateTime deletedAt) {
+}
@@ -0,0 +1,26 @@
+package tech.silva.connectcrm.dtos.version;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Version of a set of leads or clients from one {@code COUNT}/{@code MAX(modifiedAt)} aggregate.
+ * Any insert or update moves the max and any delete moves the count, so the pair changes whenever
+ * the set does. Only the pair does: a delete leaves the max alone, so the max alone is no
+ * {@code Last-Modified} for the set and collection responses carry the ETag only.
+ */
+public record CollectionVersionDTO(Long count, LocalDateTime maxModifiedAt) {
+
+    /**
+     * Strong ETag for one representation of the set. {@code parts} must hold everything else the
+     * body depends on (owner, cursor, page size) so different pages never share a tag.
+     */
+    public String eTag(Object... parts) {
+        StringBuilder key = new StringBuilder().append(count).append('|').append(maxModifiedAt);
+        for (Object part : parts)
+            key.append('|').append(part);
+        return DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package tech.silva.connectcrm.dtos.version;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Version of a single lead or client, read without loading the entity. The strong ETag is the id
+ * plus the {@code modifiedAt} instant, which auditing bumps on every write.
+ */
+public record EntityVersionDTO(Long id, LocalDateTime modifiedAt) {
+
+    public String eTag() {
+        return id + "-" + lastModified();
+    }
+
+    /** Epoch millis of {@code modifiedAt}, or -1 when the row predates auditing. */
+    public long lastModified() {
+        return modifiedAt == null ? -1 : modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
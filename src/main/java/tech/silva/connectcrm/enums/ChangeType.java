@@ -0,0 +1,5 @@
+package tech.silva.connectcrm.enums;
+
+public enum ChangeType {
+    CREATED, UPDATED, DELETED
+}
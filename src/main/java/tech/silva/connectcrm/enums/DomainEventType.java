@@ -0,0 +1,6 @@
+package tech.silva.connectcrm.enums;
+
+public enum DomainEventType {
+    LEAD_CREATED, LEAD_UPDATED, LEAD_STATUS_CHANGED, LEAD_DELETED,
+    CLIENT_CREATED, CLIENT_UPDATED, CLIENT_DELETED
+}
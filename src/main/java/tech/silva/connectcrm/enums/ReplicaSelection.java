@@ -0,0 +1,5 @@
+package tech.silva.connectcrm.enums;
+
+public enum ReplicaSelection {
+    ROUND_ROBIN, LEAST_LOADED
+}
@@ -0,0 +1,5 @@
+package tech.silva.connectcrm.enums;
+
+public enum SearchDocumentType {
+    LEAD, CLIENT
+}
@@ -0,0 +1,16 @@
+package tech.silva.connectcrm.events;
+
+import tech.silva.connectcrm.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.enums.ChangeType;
+
+/**
+ * Published by {@code ClientService} inside the write transaction. {@code client} holds the state
+ * after the change and is {@code null} for deletions.
+ */
+public record ClientChangedEvent(
+        ChangeType type,
+        Long clientId,
+        Long ownerId,
+        ClientResponseDTO client
+) {
+}
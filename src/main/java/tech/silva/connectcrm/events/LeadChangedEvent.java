@@ -0,0 +1,16 @@
+package tech.silva.connectcrm.events;
+
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.enums.ChangeType;
+
+/**
+ * Published by {@code LeadService} inside the write transaction. {@code lead} holds the state after
+ * the change and is {@code null} for deletions.
+ */
+public record LeadChangedEvent(
+        ChangeType type,
+        Long leadId,
+        Long ownerId,
+        LeadResponseDTO lead
+) {
+}
@@ -0,0 +1,15 @@
+package tech.silva.connectcrm.events;
+
+import tech.silva.connectcrm.enums.StatusLead;
+
+/**
+ * Published by {@code LeadService} inside the write transaction for every lead a bulk status
+ * change actually moved.
+ */
+public record LeadStatusChangedEvent(
+        Long leadId,
+        Long ownerId,
+        StatusLead previousStatus,
+        StatusLead status
+) {
+}
@@ -1,8 +1,10 @@
 package tech.silva.connectcrm.exceptions;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.MessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,21 +18,41 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class ApiExceptionHandler {
 
     private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
 
-    public ApiExceptionHandler(MessageSource messageSource) {
+    public ApiExceptionHandler(MessageSource messageSource, MeterRegistry meterRegistry) {
         this.messageSource = messageSource;
+        this.meterRegistry = meterRegistry;
     }
 
     @ExceptionHandler(UniqueUserViolationException.class)
     public ResponseEntity<ErrorMessage> usernameUniqueViolationException(RuntimeException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.CONFLICT);
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(new ErrorMessage(request, HttpStatus.CONFLICT, ex.getMessage()));
     }
 
+    /**
+     * Unique index violations the services did not translate themselves, such as a duplicate
+     * found only when a batch is flushed, answer like {@link UniqueUserViolationException}
+     * without echoing the constraint message. Any other violation is a server error.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorMessage> dataIntegrityViolationException(DataIntegrityViolationException ex, HttpServletRequest request) {
+        if (!UniqueUserViolationException.isUniqueViolation(ex))
+            return internalServerErrorException(ex, request);
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.CONFLICT, "Record already registered. Try again!"));
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorMessage> entityNotFoundException(RuntimeException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -39,6 +61,7 @@ public class ApiExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorMessage> methodArgumentNotValidException(MethodArgumentNotValidException ex, HttpServletRequest request, BindingResult result) {
+        countError(ex, HttpStatus.UNPROCESSABLE_ENTITY);
         return ResponseEntity
                 .status(HttpStatus.UNPROCESSABLE_ENTITY)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -47,6 +70,7 @@ public class ApiExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorMessage> internalServerErrorException(Exception ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         ErrorMessage error = new ErrorMessage(
                 request, HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
         return ResponseEntity
@@ -57,6 +81,7 @@ public class ApiExceptionHandler {
 
     @ExceptionHandler(InvalidCredencialException.class)
     public ResponseEntity<ErrorMessage> invalidCredencialException(RuntimeException ex, HttpServletRequest request){
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -65,6 +90,7 @@ public class ApiExceptionHandler {
 
     @ExceptionHandler(ObjectNotFoundException.class)
     public ResponseEntity<ErrorMessage> objectNotFoundException(RuntimeException ex, HttpServletRequest request){
+        countError(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -73,6 +99,7 @@ public class ApiExceptionHandler {
 
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorMessage> accessDeniedException(RuntimeException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.FORBIDDEN);
         return ResponseEntity
                 .status(HttpStatus.FORBIDDEN)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -81,9 +108,38 @@ public class ApiExceptionHandler {
 
     @ExceptionHandler(EntityNotAvailableForViewException.class)
     public ResponseEntity<ErrorMessage> entityNotAvailableForViewException(RuntimeException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, ex.getMessage()));
     }
+
+    @ExceptionHandler({InvalidCursorException.class, InvalidSearchException.class, InvalidImportFileException.class})
+    public ResponseEntity<ErrorMessage> invalidRequestInputException(RuntimeException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, ex.getMessage()));
+    }
+
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<ErrorMessage> syncTokenExpiredException(RuntimeException ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.GONE);
+        return ResponseEntity
+                .status(HttpStatus.GONE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.GONE, ex.getMessage()));
+    }
+
+    /**
+     * {@code connectcrm.api.errors}: handled exceptions by type and response status.
+     */
+    private void countError(Exception ex, HttpStatus status) {
+        meterRegistry.counter("connectcrm.api.errors",
+                        "exception", ex.getClass().getSimpleName(),
+                        "status", String.valueOf(status.value()))
+                .increment();
+    }
 }
@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.exceptions;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
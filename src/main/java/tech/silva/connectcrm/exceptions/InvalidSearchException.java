@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.exceptions;
+
+public class InvalidSearchException extends RuntimeException {
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+}
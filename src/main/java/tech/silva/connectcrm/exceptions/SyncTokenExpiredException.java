@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.exceptions;
+
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
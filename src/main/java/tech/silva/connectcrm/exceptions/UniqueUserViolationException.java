@@ -1,7 +1,21 @@
 package tech.silva.connectcrm.exceptions;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
 public class UniqueUserViolationException extends RuntimeException {
     public UniqueUserViolationException(String message) {
         super(message);
     }
+
+    /**
+     * Whether {@code ex} comes from a unique index rather than from another constraint (not null,
+     * foreign key), which stays a server error.
+     */
+    public static boolean isUniqueViolation(DataIntegrityViolationException ex) {
+        return ex instanceof DuplicateKeyException
+                || ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
 }
@@ -0,0 +1,81 @@
+package tech.silva.connectcrm.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.silva.connectcrm.enums.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes export rows one at a time to the response stream, either as one JSON document per line
+ * (NDJSON) or as CSV. Nothing is accumulated besides the writer buffer, and the buffer is flushed
+ * every {@link #FLUSH_EVERY_ROWS} rows so the client starts receiving data right away.
+ */
+public class ExportWriter<T> {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final Writer writer;
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Function<T, List<Object>> csvRow;
+    private long rows;
+
+    public ExportWriter(OutputStream out, ExportFormat format, ObjectMapper objectMapper,
+                        List<String> csvHeader, Function<T, List<Object>> csvRow) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.csvRow = csvRow;
+        if (format == ExportFormat.CSV)
+            writeCsvLine(List.copyOf(csvHeader));
+    }
+
+    public void write(T row) {
+        try {
+            if (format == ExportFormat.CSV)
+                writeCsvLine(csvRow.apply(row));
+            else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            if (++rows % FLUSH_EVERY_ROWS == 0)
+                writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvLine(List<?> values) {
+        try {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0)
+                    writer.write(',');
+                writer.write(escapeCsv(values.get(i)));
+            }
+            writer.write("\r\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null)
+            return "";
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0)
+            return text;
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
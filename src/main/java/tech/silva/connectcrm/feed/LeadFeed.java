@@ -0,0 +1,222 @@
+package tech.silva.connectcrm.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tech.silva.connectcrm.dtos.lead.LeadFeedEventDTO;
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.enums.ChangeType;
+import tech.silva.connectcrm.enums.DomainEventType;
+import tech.silva.connectcrm.enums.RecordType;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.events.LeadChangedEvent;
+import tech.silva.connectcrm.events.LeadStatusChangedEvent;
+import tech.silva.connectcrm.outbox.OutboxMessage;
+import tech.silva.connectcrm.outbox.OutboxTail;
+import tech.silva.connectcrm.outbox.RemoteChangeEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live lead changes pushed to subscribers over Server-Sent Events. Sellers get events for leads
+ * they own, admins and managers for every lead.
+ * <p>
+ * Connections are async servlet requests, so an idle subscriber holds no thread: only its emitter
+ * and a bounded queue. Events are serialized once, queued per subscriber and written by a small
+ * dispatch pool that picks up a subscriber only while its queue is non-empty. A subscriber that
+ * falls more than {@code connectcrm.feed.buffer-size} events behind is disconnected and should
+ * refetch its leads when it reconnects. A heartbeat comment keeps proxies from closing quiet
+ * connections and detects the ones that went away.
+ * <p>
+ * Changes committed on this instance come in after commit; those of other instances and of the
+ * reactive application through {@link OutboxTail}, about one tail poll later.
+ */
+@Component
+public class LeadFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(LeadFeed.class);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int bufferSize;
+    private final ExecutorService dispatcher;
+
+    public LeadFeed(ObjectMapper objectMapper,
+                    @Value("${connectcrm.feed.timeout}") Duration timeout,
+                    @Value("${connectcrm.feed.buffer-size}") int bufferSize,
+                    @Value("${connectcrm.feed.dispatch-threads}") int dispatchThreads) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, task -> {
+            Thread thread = new Thread(task, "lead-feed-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long userId, Role role) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, userId, !role.equals(Role.ROLE_SELLER), bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener
+    public void onLeadChanged(LeadChangedEvent event) {
+        DomainEventType type = switch (event.type()) {
+            case CREATED -> DomainEventType.LEAD_CREATED;
+            case UPDATED -> DomainEventType.LEAD_UPDATED;
+            case DELETED -> DomainEventType.LEAD_DELETED;
+        };
+        publish(new LeadFeedEventDTO(type, event.leadId(), event.ownerId(),
+                event.type() == ChangeType.DELETED ? null : event.lead(), null, null));
+    }
+
+    @TransactionalEventListener
+    public void onLeadStatusChanged(LeadStatusChangedEvent event) {
+        publish(new LeadFeedEventDTO(DomainEventType.LEAD_STATUS_CHANGED, event.leadId(), event.ownerId(),
+                null, event.previousStatus(), event.status()));
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        OutboxMessage message = event.message();
+        if (message.aggregateType() != RecordType.LEAD || subscribers.isEmpty())
+            return;
+        LeadFeedEventDTO feedEvent = switch (message.type()) {
+            case LEAD_CREATED, LEAD_UPDATED -> new LeadFeedEventDTO(message.type(), message.aggregateId(),
+                    message.ownerId(), read(message.payload(), LeadResponseDTO.class), null, null);
+            case LEAD_STATUS_CHANGED -> {
+                LeadStatusChangedEvent change = read(message.payload(), LeadStatusChangedEvent.class);
+                yield new LeadFeedEventDTO(message.type(), message.aggregateId(), message.ownerId(),
+                        null, change.previousStatus(), change.status());
+            }
+            default -> new LeadFeedEventDTO(message.type(), message.aggregateId(), message.ownerId(), null, null, null);
+        };
+        publish(feedEvent);
+    }
+
+    @Scheduled(fixedDelayString = "${connectcrm.feed.heartbeat-interval}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers)
+            enqueue(subscriber, HEARTBEAT);
+    }
+
+    /**
+     * Ends every stream as soon as shutdown starts; graceful shutdown would otherwise wait for these
+     * never-ending requests until its timeout.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void disconnectAll() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+    }
+
+    private void publish(LeadFeedEventDTO event) {
+        if (subscribers.isEmpty())
+            return;
+        Set<DataWithMediaType> data;
+        try {
+            data = SseEmitter.event()
+                    .name(event.type().name())
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.seesAll || subscriber.userId.equals(event.ownerId()))
+                enqueue(subscriber, data);
+        }
+    }
+
+    private <T> T read(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> data) {
+        if (!subscriber.queue.offer(data)) {
+            log.debug("Lead feed subscriber {} fell behind, disconnecting", subscriber.userId);
+            subscribers.remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true))
+            dispatcher.execute(() -> drain(subscriber));
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> data;
+            while ((data = subscriber.queue.poll()) != null)
+                subscriber.emitter.send(data);
+        } catch (IOException | IllegalStateException ex) {
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+        } finally {
+            subscriber.draining.set(false);
+            if (!subscriber.queue.isEmpty())
+                schedule(subscriber);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final boolean seesAll;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Long userId, boolean seesAll, int bufferSize) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.seesAll = seesAll;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package tech.silva.connectcrm.ingest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.silva.connectcrm.dtos.lead.LeadCreateDTO;
+import tech.silva.connectcrm.models.Lead;
+import tech.silva.connectcrm.models.QueuedLead;
+import tech.silva.connectcrm.repositories.IQueuedLeadRepository;
+import tech.silva.connectcrm.repositories.IUserRepository;
+import tech.silva.connectcrm.services.LeadService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Durable queue in front of {@code leads} for high-rate ingestion. A lead is acknowledged once its
+ * row is committed to {@code lead_ingestion_queue}: one insert, no uniqueness check, no change
+ * events. {@link LeadIngestionWriter} later moves the rows into {@code leads} in batches through
+ * {@link LeadService#saveLeads}, so written leads reach the outbox, the search index and the feed
+ * like any other create.
+ * <p>
+ * Queued rows have the same column limits as {@code leads}, so a row that would not fit is rejected
+ * when it is enqueued instead of failing its batch later. Emails are queued
+ * {@linkplain LeadService#normalizeEmail normalized}.
+ */
+@Component
+public class LeadIngestionQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(LeadIngestionQueue.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final IQueuedLeadRepository queuedLeadRepository;
+    private final IUserRepository userRepository;
+    private final LeadService leadService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    public LeadIngestionQueue(IQueuedLeadRepository queuedLeadRepository, IUserRepository userRepository,
+                              LeadService leadService, PlatformTransactionManager transactionManager,
+                              @Value("${connectcrm.ingest.max-attempts}") int maxAttempts) {
+        this.queuedLeadRepository = queuedLeadRepository;
+        this.userRepository = userRepository;
+        this.leadService = leadService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Transactional
+    public void enqueue(LeadCreateDTO leadDTO, Long ownerId, String submittedBy) {
+        queuedLeadRepository.save(new QueuedLead(leadDTO.name(), LeadService.normalizeEmail(leadDTO.email()),
+                leadDTO.phone(), leadDTO.origin(), ownerId, submittedBy, LocalDateTime.now()));
+    }
+
+    /**
+     * Writes the oldest {@code batchSize} queued leads and removes them from the queue in one
+     * transaction, so a crash in between leaves them queued and the next attempt skips the ones
+     * already written. Within the batch the first lead of a normalized email wins; emails already in
+     * {@code leads} are dropped by {@link LeadService#saveLeads}. Leads keep the submitting user as
+     * author, the writer itself runs unauthenticated.
+     * <p>
+     * A batch that fails (a lead created directly between the email check and the insert, a row
+     * breaking another constraint, or any other error while writing) is rolled back and written
+     * again one lead per transaction, so only the rows at fault stay queued. Those are retried after
+     * the leads that have not failed yet, so they only fill what a batch leaves free, and are parked
+     * after {@code connectcrm.ingest.max-attempts}, so they stop holding up the queue.
+     */
+    public BatchResult writeBatch(int batchSize) {
+        List<QueuedLead> batch = queuedLeadRepository.findOldest(Limit.of(batchSize));
+        if (batch.isEmpty())
+            return BatchResult.EMPTY;
+
+        try {
+            return transactionTemplate.execute(status -> write(batch));
+        } catch (RuntimeException ex) {
+            log.warn("Ingestion batch of {} leads rejected, writing them one by one: {}",
+                    batch.size(), NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        }
+        BatchResult result = BatchResult.EMPTY;
+        for (QueuedLead queued : batch)
+            result = result.plus(writeOne(queued));
+        return result;
+    }
+
+    @Transactional
+    public long depth() {
+        return queuedLeadRepository.countByParkedAtIsNull();
+    }
+
+    /**
+     * Age of the oldest queued lead, zero when the queue is empty. Parked leads do not count.
+     */
+    @Transactional
+    public Duration lag() {
+        LocalDateTime oldest = queuedLeadRepository.findOldestReceivedAt();
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, LocalDateTime.now());
+    }
+
+    private BatchResult write(List<QueuedLead> batch) {
+        Set<String> emails = new HashSet<>();
+        Map<Long, List<Lead>> leadsByOwner = new LinkedHashMap<>();
+        int duplicates = 0;
+        for (QueuedLead queued : batch) {
+            // rows queued before emails were normalized on enqueue
+            String email = LeadService.normalizeEmail(queued.getEmail());
+            if (!emails.add(email)) {
+                duplicates++;
+                continue;
+            }
+            Lead lead = new Lead(queued.getName(), email, queued.getPhone(), queued.getOrigin());
+            lead.setCreatedBy(queued.getSubmittedBy());
+            lead.setModifiedBy(queued.getSubmittedBy());
+            leadsByOwner.computeIfAbsent(queued.getOwnerId(), ownerId -> new ArrayList<>()).add(lead);
+        }
+
+        int written = 0;
+        int dropped = 0;
+        for (Map.Entry<Long, List<Lead>> owner : leadsByOwner.entrySet()) {
+            // checked here: saveLeads failing on a missing owner would roll back the whole batch
+            if (!userRepository.existsById(owner.getKey())) {
+                dropped += owner.getValue().size();
+                log.warn("Dropping {} queued leads of user {}, which no longer exists",
+                        owner.getValue().size(), owner.getKey());
+                continue;
+            }
+            Set<String> skipped = leadService.saveLeads(owner.getValue(), owner.getKey());
+            written += owner.getValue().size() - skipped.size();
+            duplicates += skipped.size();
+        }
+
+        queuedLeadRepository.deleteAllByIdInBatch(batch.stream().map(QueuedLead::getId).toList());
+        return new BatchResult(batch.size(), written, duplicates, dropped, 0, 0);
+    }
+
+    private BatchResult writeOne(QueuedLead queued) {
+        try {
+            return transactionTemplate.execute(status -> write(List.of(queued)));
+        } catch (RuntimeException ex) {
+            return failed(queued, ex);
+        }
+    }
+
+    private BatchResult failed(QueuedLead queued, RuntimeException ex) {
+        String error = String.valueOf(NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        if (error.length() > MAX_ERROR_LENGTH)
+            error = error.substring(0, MAX_ERROR_LENGTH);
+
+        if (queued.getAttempts() + 1 >= maxAttempts) {
+            queuedLeadRepository.park(queued.getId(), error, LocalDateTime.now());
+            log.error("Queued lead {} ({}) parked after {} attempts: {}",
+                    queued.getId(), queued.getEmail(), maxAttempts, error);
+            return new BatchResult(1, 0, 0, 0, 0, 1);
+        }
+        queuedLeadRepository.markFailed(queued.getId(), error);
+        log.warn("Queued lead {} ({}) rejected, will retry: {}", queued.getId(), queued.getEmail(), error);
+        return new BatchResult(1, 0, 0, 0, 1, 0);
+    }
+
+    /**
+     * Outcome of one {@link #writeBatch}: queued leads taken, written to {@code leads}, dropped as
+     * duplicates, dropped because their owner is gone, rejected and left queued for a retry, and
+     * rejected and parked.
+     */
+    public record BatchResult(int taken, int written, int duplicates, int dropped, int requeued, int parked) {
+
+        static final BatchResult EMPTY = new BatchResult(0, 0, 0, 0, 0, 0);
+
+        BatchResult plus(BatchResult other) {
+            return new BatchResult(taken + other.taken, written + other.written, duplicates + other.duplicates,
+                    dropped + other.dropped, requeued + other.requeued, parked + other.parked);
+        }
+    }
+}
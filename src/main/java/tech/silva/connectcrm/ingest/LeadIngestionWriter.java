@@ -0,0 +1,73 @@
+package tech.silva.connectcrm.ingest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains {@link LeadIngestionQueue} into {@code leads} in batches of
+ * {@code connectcrm.ingest.batch-size}, batch after batch until the queue is empty.
+ * <p>
+ * A batch that fails is written again lead by lead. A lead that still fails stays queued, which
+ * ends the drain until the next poll; it is retried behind the leads that have not failed yet and
+ * parked after {@code connectcrm.ingest.max-attempts} (see {@link LeadIngestionQueue#writeBatch}).
+ * Run the writer on a single instance ({@code connectcrm.ingest.writer.enabled}): two writers would
+ * take the same rows. That instance also reports the queue metrics:
+ * <ul>
+ *     <li>{@code connectcrm.ingest.queue.depth}: leads waiting to be written, parked ones excluded</li>
+ *     <li>{@code connectcrm.ingest.queue.lag}: age of the oldest waiting lead</li>
+ *     <li>{@code connectcrm.ingest.leads}: leads taken from the queue, by outcome</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "connectcrm.ingest.writer.enabled", havingValue = "true", matchIfMissing = true)
+public class LeadIngestionWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(LeadIngestionWriter.class);
+
+    private final LeadIngestionQueue queue;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public LeadIngestionWriter(LeadIngestionQueue queue, MeterRegistry meterRegistry,
+                               @Value("${connectcrm.ingest.batch-size}") int batchSize) {
+        this.queue = queue;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+
+        Gauge.builder("connectcrm.ingest.queue.depth", queue, LeadIngestionQueue::depth)
+                .description("Leads accepted by the ingestion endpoint and not yet written")
+                .register(meterRegistry);
+        Gauge.builder("connectcrm.ingest.queue.lag", queue, q -> q.lag().toMillis() / 1000.0)
+                .description("Age of the oldest lead waiting in the ingestion queue")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${connectcrm.ingest.poll-interval}")
+    public void drain() {
+        LeadIngestionQueue.BatchResult result;
+        do {
+            result = queue.writeBatch(batchSize);
+            count("written", result.written());
+            count("duplicate", result.duplicates());
+            count("dropped", result.dropped());
+            count("requeued", result.requeued());
+            count("parked", result.parked());
+            if (result.taken() > 0)
+                log.debug("Ingestion batch: {} taken, {} written, {} duplicates, {} dropped, {} requeued, {} parked",
+                        result.taken(), result.written(), result.duplicates(), result.dropped(), result.requeued(),
+                        result.parked());
+        } while (result.taken() == batchSize && result.requeued() == 0);
+    }
+
+    private void count(String outcome, int leads) {
+        if (leads > 0)
+            meterRegistry.counter("connectcrm.ingest.leads", "outcome", outcome).increment(leads);
+    }
+}
@@ -1,5 +1,6 @@
 package tech.silva.connectcrm.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +19,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUserDetailsService detailsService;
 
+    /**
+     * Tokens carry the user id and role, so the principal normally comes straight from the verified
+     * claims without touching the database, apart from the opt-in
+     * {@linkplain JwtUserDetailsService#isStillValid revalidation}. Tokens issued before those claims
+     * existed still fall back to loading the user by email.
+     */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
@@ -27,19 +34,25 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if(!JwtUtils.isTokenValid(token)){
+        Claims claims = JwtUtils.verify(token);
+        if(claims == null){
             filterChain.doFilter(request, response);
             return;
         }
 
-        String username = JwtUtils.getUsernameFromToken(token);
-        toAuthentication(request, username);
+        UserDetails userDetails = JwtUtils.toUserDetails(claims);
+        if (userDetails == null)
+            userDetails = detailsService.loadUserByUsername(claims.getSubject());
+        else if (!detailsService.isStillValid((JwtUserDetails) userDetails)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        toAuthentication(request, userDetails);
         filterChain.doFilter(request, response);
     }
 
-    private void toAuthentication(HttpServletRequest request, String username) {
-
-        UserDetails userDetails = detailsService.loadUserByUsername(username);
+    private void toAuthentication(HttpServletRequest request, UserDetails userDetails) {
 
         UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken
                 .authenticated(userDetails, null, userDetails.getAuthorities());
@@ -47,4 +60,4 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
     }
-}
\ No newline at end of file
+}
@@ -2,23 +2,36 @@ package tech.silva.connectcrm.jwt;
 
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.User;
+import tech.silva.connectcrm.enums.Role;
 import tech.silva.connectcrm.models.AppUser;
 
 public class JwtUserDetails extends User {
 
-    private AppUser user;
+    private final Long id;
+    private final Role role;
 
     public JwtUserDetails(AppUser user) {
         super(user.getEmail(), user.getPassword(), AuthorityUtils.createAuthorityList(user.getRole().name()));
-        this.user = user;
+        this.id = user.getId();
+        this.role = user.getRole();
+    }
+
+    /**
+     * Principal rebuilt from verified token claims. There is no password: it is only used for
+     * requests that already passed signature and expiry checks.
+     */
+    public JwtUserDetails(Long id, String username, Role role) {
+        super(username, "", AuthorityUtils.createAuthorityList(role.name()));
+        this.id = id;
+        this.role = role;
     }
 
     public Long getId() {
-        return this.user.getId();
+        return this.id;
     }
 
     public String getRole() {
-        return this.user.getRole().name();
+        return this.role.name();
     }
 
 }
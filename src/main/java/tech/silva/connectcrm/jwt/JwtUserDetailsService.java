@@ -1,5 +1,7 @@
 package tech.silva.connectcrm.jwt;
 
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
@@ -7,13 +9,21 @@ import tech.silva.connectcrm.exceptions.UsernameNotFoundException;
 import tech.silva.connectcrm.models.AppUser;
 import tech.silva.connectcrm.services.UserService;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Service
 public class JwtUserDetailsService implements UserDetailsService {
 
     private final UserService userService;
+    private final Duration revalidateAfter;
+    private final Map<Long, Long> lastValidatedAt = new ConcurrentHashMap<>();
 
-    public JwtUserDetailsService(UserService userService) {
+    public JwtUserDetailsService(UserService userService,
+                                 @Value("${connectcrm.jwt.revalidate-after}") Duration revalidateAfter) {
         this.userService = userService;
+        this.revalidateAfter = revalidateAfter;
     }
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -23,8 +33,34 @@ public class JwtUserDetailsService implements UserDetailsService {
 
     public JwtToken getTokenAuthenticated(String username) {
         AppUser user = userService.findByEmail(username);
-        return JwtUtils.createToken(username, user.getRole().name().substring("ROLE_".length()));
+        return JwtUtils.createToken(user.getId(), username, user.getRole().name().substring("ROLE_".length()));
     }
 
+    /**
+     * Opt-in check that a principal built from token claims still matches the database. Disabled
+     * when {@code connectcrm.jwt.revalidate-after} is zero; otherwise each user is looked up at most
+     * once per interval, and a deleted user or a changed email or role invalidates their tokens.
+     */
+    public boolean isStillValid(JwtUserDetails principal) {
+        if (revalidateAfter.isZero())
+            return true;
+
+        long now = System.currentTimeMillis();
+        Long validatedAt = lastValidatedAt.get(principal.getId());
+        if (validatedAt != null && now - validatedAt < revalidateAfter.toMillis())
+            return true;
 
+        try {
+            AppUser user = userService.findById(principal.getId());
+            if (!user.getEmail().equals(principal.getUsername()) || !user.getRole().name().equals(principal.getRole())) {
+                lastValidatedAt.remove(principal.getId());
+                return false;
+            }
+        } catch (EntityNotFoundException ex) {
+            lastValidatedAt.remove(principal.getId());
+            return false;
+        }
+        lastValidatedAt.put(principal.getId(), now);
+        return true;
+    }
 }
@@ -2,8 +2,10 @@ package tech.silva.connectcrm.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import tech.silva.connectcrm.enums.Role;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
@@ -19,12 +21,15 @@ public class JwtUtils {
     public static final long EXPIRE_DAYS = 0;
     public static final long EXPIRE_HOURS = 2;
     public static final long EXPIRE_MINUTES = 30;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
-    private JwtUtils() {
-    }
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private static final JwtParser PARSER = Jwts.parser().verifyWith(KEY).build();
+    private static final VerifiedTokenCache VERIFIED_TOKENS = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
 
-    private static SecretKey generateKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private JwtUtils() {
     }
 
     private static Date toExpireDate(Date start) {
@@ -33,7 +38,7 @@ public class JwtUtils {
         return Date.from(end.atZone(ZoneId.systemDefault()).toInstant());
     }
 
-    public static JwtToken createToken(String username, String role) {
+    public static JwtToken createToken(Long userId, String username, String role) {
         Date issuedAt = new Date();
         Date limit = toExpireDate(issuedAt);
 
@@ -43,8 +48,9 @@ public class JwtUtils {
                 .subject(username)
                 .issuedAt(issuedAt)
                 .expiration(limit)
-                .signWith(generateKey(), Jwts.SIG.HS256)
-                .claim("role", role)
+                .signWith(KEY, Jwts.SIG.HS256)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLE, role)
                 .compact();
 
         return new JwtToken(token);
@@ -57,28 +63,54 @@ public class JwtUtils {
         return token;
     }
 
-    private static Claims getClaimsFromToken(String token) {
+    /**
+     * Verifies the token once and returns its claims, or {@code null} when the signature or the
+     * expiration is invalid. Recently verified tokens are answered from an LRU until they expire.
+     */
+    public static Claims verify(String token) {
+        String jwt = refactorToken(token);
+        Claims claims = VERIFIED_TOKENS.get(jwt);
+        if (claims != null)
+            return claims;
+
+        claims = parseClaims(jwt);
+        if (claims != null)
+            VERIFIED_TOKENS.put(jwt, claims);
+        return claims;
+    }
+
+    /**
+     * Full signature check and parse with the shared parser, bypassing the verified token cache.
+     */
+    public static Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(generateKey())
-                    .build().parseSignedClaims(refactorToken(token)).getPayload();
-        } catch (JwtException ex) {
+            return PARSER.parseSignedClaims(refactorToken(token)).getPayload();
+        } catch (JwtException | IllegalArgumentException ex) {
         }
         return null;
     }
 
+    public static Claims getClaimsFromToken(String token) {
+        return verify(token);
+    }
+
     public static boolean isTokenValid(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(generateKey())
-                    .build().parseSignedClaims(refactorToken(token));
-            return true;
-        } catch (JwtException ex) {
-        }
-        return false;
+        return verify(token) != null;
     }
 
     public static String getUsernameFromToken(String token) {
         return getClaimsFromToken(token).getSubject();
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds the principal straight from the token claims, or returns {@code null} for tokens issued
+     * before the user id was carried as a claim.
+     */
+    public static JwtUserDetails toUserDetails(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null)
+            return null;
+        return new JwtUserDetails(userId, claims.getSubject(), Role.valueOf("ROLE_" + role));
+    }
+}
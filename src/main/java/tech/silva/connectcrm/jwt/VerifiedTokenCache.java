@@ -0,0 +1,68 @@
+package tech.silva.connectcrm.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of tokens whose signature was already verified, keyed by the SHA-256 of the token
+ * and kept only until the token expires. A hit skips the HMAC check and the JSON parsing that
+ * {@link JwtUtils} would otherwise repeat for every request made with the same token.
+ * <p>
+ * Backed by Caffeine, bounded by {@code maximumSize}: reads take no lock, so the requests going
+ * through here do not queue behind each other.
+ */
+final class VerifiedTokenCache {
+
+    private final Cache<ByteBuffer, Claims> entries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    Claims get(String token) {
+        return entries.getIfPresent(hash(token));
+    }
+
+    void put(String token, Claims claims) {
+        if (claims.getExpiration() == null)
+            return;
+        entries.put(hash(token), claims);
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime() - System.currentTimeMillis());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package tech.silva.connectcrm.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import tech.silva.connectcrm.dtos.page.CursorPageDTO;
+import tech.silva.connectcrm.dtos.page.PageResponseDTO;
+import tech.silva.connectcrm.dtos.sync.SyncChangesDTO;
+
+import java.util.Collection;
+
+/**
+ * {@code connectcrm.api.rows}: number of rows each listing endpoint returns, tagged with the
+ * controller method. Recorded on the response body, so every list, page and sync response is
+ * covered without touching the controllers.
+ */
+@RestControllerAdvice(basePackages = "tech.silva.connectcrm.controllers")
+public class ResponseRowsMetrics implements ResponseBodyAdvice<Object> {
+
+    private final MeterRegistry meterRegistry;
+
+    public ResponseRowsMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Class<?> type = returnType.getParameterType();
+        if (ResponseEntity.class.equals(type))
+            type = returnType.nested().getNestedParameterType();
+        return Collection.class.isAssignableFrom(type)
+                || CursorPageDTO.class.equals(type)
+                || PageResponseDTO.class.equals(type)
+                || SyncChangesDTO.class.equals(type);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body != null)
+            DistributionSummary.builder("connectcrm.api.rows")
+                    .description("Rows returned per list call")
+                    .tag("operation", returnType.getContainingClass().getSimpleName() + "." + returnType.getMethod().getName())
+                    .serviceLevelObjectives(1, 10, 50, 100, 200, 1000)
+                    .register(meterRegistry)
+                    .record(rows(body));
+        return body;
+    }
+
+    private static int rows(Object body) {
+        if (body instanceof Collection<?> rows)
+            return rows.size();
+        if (body instanceof CursorPageDTO<?> page)
+            return page.content().size();
+        if (body instanceof PageResponseDTO<?> page)
+            return page.content().size();
+        if (body instanceof SyncChangesDTO changes)
+            return changes.leads().size() + changes.clients().size() + changes.deleted().size();
+        return 0;
+    }
+}
@@ -9,12 +9,16 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "clients")
+@Table(name = "clients", indexes = {
+        @Index(name = "idx_clients_owner_modified", columnList = "userId, modifiedAt"),
+        @Index(name = "idx_clients_modified", columnList = "modifiedAt")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Client {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_seq")
+    @SequenceGenerator(name = "client_seq", sequenceName = "client_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -28,7 +32,7 @@ public class Client {
 
     private String address ;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId")
     private AppUser user;
 
@@ -11,12 +11,20 @@ import tech.silva.connectcrm.enums.StatusLead;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "leads")
+@Table(name = "leads", indexes = {
+        @Index(name = "idx_leads_owner_status_created", columnList = "userId, status, createdAt"),
+        @Index(name = "idx_leads_status_created", columnList = "status, createdAt"),
+        @Index(name = "idx_leads_origin_created", columnList = "origin, createdAt"),
+        @Index(name = "idx_leads_created", columnList = "createdAt"),
+        @Index(name = "idx_leads_owner_modified", columnList = "userId, modifiedAt"),
+        @Index(name = "idx_leads_modified", columnList = "modifiedAt")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Lead {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lead_seq")
+    @SequenceGenerator(name = "lead_seq", sequenceName = "lead_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -31,7 +39,7 @@ public class Lead {
     @Enumerated(EnumType.STRING)
     private StatusLead status = StatusLead.NEW;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId")
     private AppUser user;
 
@@ -0,0 +1,38 @@
+package tech.silva.connectcrm.models;
+
+import jakarta.persistence.*;
+
+/**
+ * How far {@code OutboxTail} has read the outbox on one instance: the {@code sequenceNumber} of the
+ * last row it handled, keyed by {@code connectcrm.instance-id}.
+ */
+@Entity
+@Table(name = "outbox_cursors")
+public class OutboxCursor {
+
+    @Id
+    private String instanceId;
+
+    @Column(nullable = false)
+    private Long position;
+
+    public OutboxCursor() {
+    }
+
+    public OutboxCursor(String instanceId, Long position) {
+        this.instanceId = instanceId;
+        this.position = position;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public Long getPosition() {
+        return position;
+    }
+
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+}
@@ -0,0 +1,133 @@
+package tech.silva.connectcrm.models;
+
+import jakarta.persistence.*;
+import tech.silva.connectcrm.enums.DomainEventType;
+import tech.silva.connectcrm.enums.RecordType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event written in the same transaction as the change it describes and delivered to the
+ * outbox sinks afterwards by {@code OutboxRelay}.
+ * <p>
+ * The id comes from a pooled sequence like the other entities, so the rows of a bulk write go out
+ * as JDBC batches; ids from pre-allocated blocks do not follow insert order across instances, so
+ * the relay orders by {@code sequenceNumber} instead. That is an auto-increment column the database
+ * fills at insert time: writes to one lead or client are serialized by its row lock, so it orders
+ * that aggregate's events even across instances. Hibernate never reads it back, which would cost a
+ * round trip per row.
+ * <p>
+ * {@code origin} is the {@code connectcrm.instance-id} of the instance that wrote the row, which
+ * {@code OutboxTail} uses to skip the changes its own instance already applied.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "publishedAt, parkedAt, sequenceNumber")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    // MySQL wants an auto-increment column to be a key, in the same statement that creates it
+    @Column(insertable = false, updatable = false, columnDefinition = "bigint not null auto_increment unique")
+    private Long sequenceNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecordType aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventType eventType;
+
+    private Long ownerId;
+
+    @Lob
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private String origin;
+
+    private LocalDateTime publishedAt;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime parkedAt;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(RecordType aggregateType, Long aggregateId, DomainEventType eventType, Long ownerId,
+                       String payload, LocalDateTime occurredAt, String origin) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.ownerId = ownerId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.origin = origin;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public RecordType getAggregateType() {
+        return aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public DomainEventType getEventType() {
+        return eventType;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getParkedAt() {
+        return parkedAt;
+    }
+}
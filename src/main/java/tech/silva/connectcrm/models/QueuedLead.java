@@ -0,0 +1,108 @@
+package tech.silva.connectcrm.models;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lead accepted by the ingestion endpoint and not yet written to {@code leads}. Rows are appended
+ * on receipt and deleted by {@code LeadIngestionWriter} in the transaction that writes them out. A
+ * row the database keeps rejecting is parked instead, with its last error, for manual inspection.
+ * <p>
+ * The id is an auto-increment column so the writer drains rows in arrival order across instances,
+ * and an append needs no sequence round trip.
+ */
+@Entity
+@Table(name = "lead_ingestion_queue")
+public class QueuedLead {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private String phone;
+
+    @Column(nullable = false)
+    private String origin;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private String submittedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime parkedAt;
+
+    public QueuedLead() {
+    }
+
+    public QueuedLead(String name, String email, String phone, String origin, Long ownerId, String submittedBy,
+                      LocalDateTime receivedAt) {
+        this.name = name;
+        this.email = email;
+        this.phone = phone;
+        this.origin = origin;
+        this.ownerId = ownerId;
+        this.submittedBy = submittedBy;
+        this.receivedAt = receivedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public String getSubmittedBy() {
+        return submittedBy;
+    }
+
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getParkedAt() {
+        return parkedAt;
+    }
+}
@@ -0,0 +1,66 @@
+package tech.silva.connectcrm.models;
+
+import jakarta.persistence.*;
+import tech.silva.connectcrm.enums.RecordType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker left behind when a lead or client is deleted, so delta sync can tell offline clients to
+ * drop their copy. Kept for {@code connectcrm.sync.tombstone-retention} and then purged.
+ */
+@Entity
+@Table(name = "tombstones", indexes = {
+        @Index(name = "idx_tombstones_owner_deleted", columnList = "ownerId, deletedAt"),
+        @Index(name = "idx_tombstones_deleted", columnList = "deletedAt")
+})
+public class Tombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tombstone_seq")
+    @SequenceGenerator(name = "tombstone_seq", sequenceName = "tombstone_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecordType type;
+
+    @Column(nullable = false)
+    private Long recordId;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public Tombstone() {
+    }
+
+    public Tombstone(RecordType type, Long recordId, Long ownerId, LocalDateTime deletedAt) {
+        this.type = type;
+        this.recordId = recordId;
+        this.ownerId = ownerId;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public RecordType getType() {
+        return type;
+    }
+
+    public Long getRecordId() {
+        return recordId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
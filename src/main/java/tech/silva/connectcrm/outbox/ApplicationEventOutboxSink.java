@@ -0,0 +1,23 @@
+package tech.silva.connectcrm.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands each message to in-process {@code @EventListener}s of {@link OutboxMessage}. Listeners run
+ * on the relay thread after the change committed; one that throws gets the message again.
+ */
+@Component
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        eventPublisher.publishEvent(message);
+    }
+}
@@ -0,0 +1,29 @@
+package tech.silva.connectcrm.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes each message as one JSON line to the {@code connectcrm.outbox} logger, which can be routed
+ * to its own file by the logging configuration.
+ */
+@Component
+@ConditionalOnProperty(name = "connectcrm.outbox.sinks.log.enabled", havingValue = "true")
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger("connectcrm.outbox");
+
+    private final ObjectMapper objectMapper;
+
+    public LogOutboxSink(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) throws Exception {
+        log.info(objectMapper.writeValueAsString(message));
+    }
+}
@@ -0,0 +1,28 @@
+package tech.silva.connectcrm.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import tech.silva.connectcrm.enums.DomainEventType;
+import tech.silva.connectcrm.enums.RecordType;
+import tech.silva.connectcrm.models.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * What sinks receive for each outbox row. Delivery is at least once: consumers should drop
+ * {@code eventId}s they have already seen. {@code payload} is the JSON state after the change, or
+ * {@code null} for deletions.
+ */
+public record OutboxMessage(
+        Long eventId,
+        DomainEventType type,
+        RecordType aggregateType,
+        Long aggregateId,
+        Long ownerId,
+        LocalDateTime occurredAt,
+        @JsonRawValue String payload
+) {
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateType(),
+                event.getAggregateId(), event.getOwnerId(), event.getOccurredAt(), event.getPayload());
+    }
+}
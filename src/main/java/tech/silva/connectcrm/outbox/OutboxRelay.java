@@ -0,0 +1,113 @@
+package tech.silva.connectcrm.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tech.silva.connectcrm.models.OutboxEvent;
+import tech.silva.connectcrm.repositories.IOutboxEventRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drains the outbox to every {@link OutboxSink} in insert order ({@code sequenceNumber}).
+ * <p>
+ * A row is marked published only after all sinks accepted it, so a crash in between redelivers it
+ * (at least once). When a message fails, later messages of the same aggregate are held back until
+ * it goes through, which keeps per-aggregate order; after {@code connectcrm.outbox.max-attempts}
+ * the message is parked for manual inspection and its aggregate moves on. Run the relay on a single
+ * instance ({@code connectcrm.outbox.relay.enabled}); two relays would deliver concurrently and
+ * lose that order.
+ */
+@Component
+@ConditionalOnProperty(name = "connectcrm.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final IOutboxEventRepository outboxRepository;
+    private final List<OutboxSink> sinks;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public OutboxRelay(IOutboxEventRepository outboxRepository, List<OutboxSink> sinks,
+                       @Value("${connectcrm.outbox.batch-size}") int batchSize,
+                       @Value("${connectcrm.outbox.max-attempts}") int maxAttempts,
+                       @Value("${connectcrm.outbox.retention}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${connectcrm.outbox.poll-interval}")
+    public void drain() {
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == batchSize);
+    }
+
+    /**
+     * Delivers one batch of pending messages.
+     *
+     * @return how many messages were published
+     */
+    public int relayBatch() {
+        List<OutboxEvent> batch = outboxRepository.findPending(Limit.of(batchSize));
+        Set<String> blockedAggregates = new HashSet<>();
+        List<Long> published = new ArrayList<>(batch.size());
+
+        for (OutboxEvent event : batch) {
+            String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+            if (blockedAggregates.contains(aggregate))
+                continue;
+            try {
+                OutboxMessage message = OutboxMessage.of(event);
+                for (OutboxSink sink : sinks)
+                    sink.deliver(message);
+                published.add(event.getId());
+            } catch (Exception ex) {
+                blockedAggregates.add(aggregate);
+                failed(event, ex);
+            }
+        }
+
+        if (!published.isEmpty())
+            outboxRepository.markPublished(published, LocalDateTime.now());
+        return published.size();
+    }
+
+    @Scheduled(cron = "${connectcrm.outbox.purge-cron}")
+    public void purgePublished() {
+        outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private void failed(OutboxEvent event, Exception ex) {
+        String error = String.valueOf(ex.getMessage());
+        if (error.length() > MAX_ERROR_LENGTH)
+            error = error.substring(0, MAX_ERROR_LENGTH);
+
+        if (event.getAttempts() + 1 >= maxAttempts) {
+            outboxRepository.park(event.getId(), error, LocalDateTime.now());
+            log.error("Outbox event {} ({} {}) parked after {} attempts: {}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), maxAttempts, error);
+        } else {
+            outboxRepository.markFailed(event.getId(), error);
+            log.warn("Outbox event {} ({} {}) delivery failed, will retry: {}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), error);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package tech.silva.connectcrm.outbox;
+
+/**
+ * Destination of the outbox relay. Every registered sink gets every message, in id order per
+ * aggregate; a sink that throws makes the relay retry the message on all sinks later, so
+ * implementations must tolerate repeats.
+ */
+public interface OutboxSink {
+
+    void deliver(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,103 @@
+package tech.silva.connectcrm.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tech.silva.connectcrm.models.OutboxCursor;
+import tech.silva.connectcrm.models.OutboxEvent;
+import tech.silva.connectcrm.repositories.IOutboxCursorRepository;
+import tech.silva.connectcrm.repositories.IOutboxEventRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads the outbox on every instance and publishes a {@link RemoteChangeEvent} for each row written
+ * by somebody else, so the local search index and lead feed also see the changes committed by other
+ * instances and by the reactive application. Changes of this instance reach them through the
+ * after-commit listeners and are skipped here by their {@code origin}.
+ * <p>
+ * Independent of {@link OutboxRelay}: rows are read in {@code sequenceNumber} order whether or not
+ * they were published, from this instance's own mark, which is persisted after every batch. A fresh
+ * instance starts at the end of the outbox; the search index catches up from the tables instead.
+ * Sequence numbers are taken at insert time but become visible at commit, so rows younger than
+ * {@code connectcrm.outbox.tail.settle-time} are left for the next poll rather than skipping an
+ * earlier row that is still committing.
+ */
+@Component
+@ConditionalOnProperty(name = "connectcrm.outbox.tail.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxTail {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxTail.class);
+
+    private final IOutboxEventRepository outboxRepository;
+    private final IOutboxCursorRepository cursorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String instanceId;
+    private final int batchSize;
+    private final Duration settleTime;
+
+    private OutboxCursor cursor;
+
+    public OutboxTail(IOutboxEventRepository outboxRepository, IOutboxCursorRepository cursorRepository,
+                      ApplicationEventPublisher eventPublisher,
+                      @Value("${connectcrm.instance-id}") String instanceId,
+                      @Value("${connectcrm.outbox.batch-size}") int batchSize,
+                      @Value("${connectcrm.outbox.tail.settle-time}") Duration settleTime) {
+        this.outboxRepository = outboxRepository;
+        this.cursorRepository = cursorRepository;
+        this.eventPublisher = eventPublisher;
+        this.instanceId = instanceId;
+        this.batchSize = batchSize;
+        this.settleTime = settleTime;
+    }
+
+    @Scheduled(fixedDelayString = "${connectcrm.outbox.tail.poll-interval}")
+    public void poll() {
+        int read;
+        do {
+            read = readBatch();
+        } while (read == batchSize);
+    }
+
+    /**
+     * Applies one batch of settled rows past the mark and moves the mark behind them. A listener
+     * that throws is logged and the row skipped: holding back the tail would stall every later
+     * change.
+     *
+     * @return how many rows the mark moved past
+     */
+    public synchronized int readBatch() {
+        if (cursor == null)
+            cursor = cursorRepository.findById(instanceId)
+                    .orElseGet(() -> new OutboxCursor(instanceId, outboxRepository.findLastSequenceNumber()));
+
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleTime);
+        List<OutboxEvent> batch = outboxRepository.findAfter(cursor.getPosition(), Limit.of(batchSize));
+        int read = 0;
+        for (OutboxEvent event : batch) {
+            if (event.getOccurredAt().isAfter(settledBefore))
+                break;
+            if (!instanceId.equals(event.getOrigin())) {
+                try {
+                    eventPublisher.publishEvent(new RemoteChangeEvent(OutboxMessage.of(event)));
+                } catch (RuntimeException ex) {
+                    log.warn("Outbox event {} ({} {}) could not be applied locally: {}",
+                            event.getId(), event.getEventType(), event.getAggregateId(), ex.getMessage());
+                }
+            }
+            cursor.setPosition(event.getSequenceNumber());
+            read++;
+        }
+
+        if (read > 0)
+            cursor = cursorRepository.save(cursor);
+        return read;
+    }
+}
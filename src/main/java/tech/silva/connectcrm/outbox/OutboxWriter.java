@@ -0,0 +1,78 @@
+package tech.silva.connectcrm.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tech.silva.connectcrm.enums.ChangeType;
+import tech.silva.connectcrm.enums.DomainEventType;
+import tech.silva.connectcrm.enums.RecordType;
+import tech.silva.connectcrm.events.ClientChangedEvent;
+import tech.silva.connectcrm.events.LeadChangedEvent;
+import tech.silva.connectcrm.events.LeadStatusChangedEvent;
+import tech.silva.connectcrm.models.OutboxEvent;
+import tech.silva.connectcrm.repositories.IOutboxEventRepository;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Turns the change events of {@code LeadService} and {@code ClientService} into outbox rows. The
+ * listeners run synchronously inside the service transaction, so a row exists if and only if the
+ * change it describes committed.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxWriter {
+
+    private final IOutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final String instanceId;
+
+    public OutboxWriter(IOutboxEventRepository outboxRepository, ObjectMapper objectMapper,
+                        @Value("${connectcrm.instance-id}") String instanceId) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.instanceId = instanceId;
+    }
+
+    @EventListener
+    public void onLeadChanged(LeadChangedEvent event) {
+        DomainEventType type = switch (event.type()) {
+            case CREATED -> DomainEventType.LEAD_CREATED;
+            case UPDATED -> DomainEventType.LEAD_UPDATED;
+            case DELETED -> DomainEventType.LEAD_DELETED;
+        };
+        write(RecordType.LEAD, event.leadId(), type, event.ownerId(),
+                event.type() == ChangeType.DELETED ? null : event.lead());
+    }
+
+    @EventListener
+    public void onLeadStatusChanged(LeadStatusChangedEvent event) {
+        write(RecordType.LEAD, event.leadId(), DomainEventType.LEAD_STATUS_CHANGED, event.ownerId(), event);
+    }
+
+    @EventListener
+    public void onClientChanged(ClientChangedEvent event) {
+        DomainEventType type = switch (event.type()) {
+            case CREATED -> DomainEventType.CLIENT_CREATED;
+            case UPDATED -> DomainEventType.CLIENT_UPDATED;
+            case DELETED -> DomainEventType.CLIENT_DELETED;
+        };
+        write(RecordType.CLIENT, event.clientId(), type, event.ownerId(),
+                event.type() == ChangeType.DELETED ? null : event.client());
+    }
+
+    private void write(RecordType aggregateType, Long aggregateId, DomainEventType type, Long ownerId, Object payload) {
+        try {
+            String json = payload == null ? null : objectMapper.writeValueAsString(payload);
+            outboxRepository.save(new OutboxEvent(aggregateType, aggregateId, type, ownerId, json, LocalDateTime.now(),
+                    instanceId));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
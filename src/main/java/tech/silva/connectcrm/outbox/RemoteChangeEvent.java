@@ -0,0 +1,8 @@
+package tech.silva.connectcrm.outbox;
+
+/**
+ * A change committed by another instance or by the reactive application, read back from the outbox
+ * by {@link OutboxTail}. Published outside any transaction, to plain {@code @EventListener}s.
+ */
+public record RemoteChangeEvent(OutboxMessage message) {
+}
@@ -0,0 +1,43 @@
+package tech.silva.connectcrm.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * POSTs each message as JSON to {@code connectcrm.outbox.sinks.webhook.url}. Any non-2xx answer or
+ * timeout counts as a failed delivery. The event id is also sent as the {@code X-Event-Id} header
+ * so receivers can deduplicate without parsing the body.
+ */
+@Component
+@ConditionalOnProperty(name = "connectcrm.outbox.sinks.webhook.url")
+public class WebhookOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+
+    public WebhookOutboxSink(@Value("${connectcrm.outbox.sinks.webhook.url}") String url,
+                             @Value("${connectcrm.outbox.sinks.webhook.timeout}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = RestClient.builder()
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Event-Id", String.valueOf(message.eventId()))
+                .body(message)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -1,14 +1,78 @@
 package tech.silva.connectcrm.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import tech.silva.connectcrm.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.dtos.sync.ClientChangeDTO;
+import tech.silva.connectcrm.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.dtos.version.EntityVersionDTO;
 import tech.silva.connectcrm.models.AppUser;
 import tech.silva.connectcrm.models.Client;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IClientRepository extends JpaRepository<Client, Long> {
-    Optional<Client> findByEmail(String email);
-
     List<Client> findAllByUser(AppUser user);
+
+    @Query("SELECT c FROM Client c JOIN FETCH c.user WHERE c.id = :id")
+    Optional<Client> findWithOwnerById(@Param("id") Long id);
+
+    @Query("SELECT c FROM Client c JOIN FETCH c.user u WHERE c.id = :id AND u.id = :userId")
+    Optional<Client> findByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.version.EntityVersionDTO(c.id, c.modifiedAt) " +
+            "FROM Client c WHERE c.id = :id")
+    Optional<EntityVersionDTO> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.version.EntityVersionDTO(c.id, c.modifiedAt) " +
+            "FROM Client c WHERE c.id = :id AND c.user.id = :userId")
+    Optional<EntityVersionDTO> findVersionByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.version.CollectionVersionDTO(COUNT(c), MAX(c.modifiedAt)) " +
+            "FROM Client c WHERE c.user.id = :userId")
+    CollectionVersionDTO findVersionByOwner(@Param("userId") Long userId);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.sync.ClientChangeDTO(" +
+            "c.id, c.name, c.email, c.phone, c.document, c.address, u.id, u.name, u.email, u.role, c.modifiedAt) " +
+            "FROM Client c JOIN c.user u WHERE u.id = :userId AND c.modifiedAt <= :until " +
+            "AND (c.modifiedAt > :at OR (c.modifiedAt = :at AND c.id > :afterId)) " +
+            "ORDER BY c.modifiedAt ASC, c.id ASC")
+    List<ClientChangeDTO> findChangesByOwner(@Param("userId") Long userId, @Param("at") LocalDateTime at,
+                                             @Param("afterId") Long afterId, @Param("until") LocalDateTime until,
+                                             Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Client c WHERE c.id = :id AND c.user.id = :userId")
+    int deleteByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.client.ClientResponseDTO(" +
+            "c.id, c.name, c.email, c.phone, c.document, c.address, u.id, u.name, u.email, u.role) " +
+            "FROM Client c JOIN c.user u WHERE c.id > :afterId ORDER BY c.id ASC")
+    List<ClientResponseDTO> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.client.ClientResponseDTO(" +
+            "c.id, c.name, c.email, c.phone, c.document, c.address, u.id, u.name, u.email, u.role) " +
+            "FROM Client c JOIN c.user u WHERE u.id = :userId AND c.id > :afterId ORDER BY c.id ASC")
+    List<ClientResponseDTO> findPageByUserAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new tech.silva.connectcrm.dtos.client.ClientResponseDTO(" +
+            "c.id, c.name, c.email, c.phone, c.document, c.address, u.id, u.name, u.email, u.role) " +
+            "FROM Client c JOIN c.user u ORDER BY c.id ASC")
+    Stream<ClientResponseDTO> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new tech.silva.connectcrm.dtos.client.ClientResponseDTO(" +
+            "c.id, c.name, c.email, c.phone, c.document, c.address, u.id, u.name, u.email, u.role) " +
+            "FROM Client c JOIN c.user u WHERE c.modifiedAt >= :since ORDER BY c.id ASC")
+    Stream<ClientResponseDTO> streamModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -1,14 +1,113 @@
 package tech.silva.connectcrm.repositories;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.dtos.lead.LeadStatusDTO;
+import tech.silva.connectcrm.dtos.sync.LeadChangeDTO;
+import tech.silva.connectcrm.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.enums.StatusLead;
 import tech.silva.connectcrm.models.AppUser;
 import tech.silva.connectcrm.models.Lead;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public interface ILeadRepository extends JpaRepository<Lead, Long> {
-    Optional<Lead> findByEmail(String email);
-
+public interface ILeadRepository extends JpaRepository<Lead, Long>, JpaSpecificationExecutor<Lead> {
     List<Lead> findAllByUser(AppUser user);
+
+    @Query("SELECT l FROM Lead l JOIN FETCH l.user WHERE l.id = :id")
+    Optional<Lead> findWithOwnerById(@Param("id") Long id);
+
+    @Query("SELECT l FROM Lead l JOIN FETCH l.user u WHERE l.id = :id AND u.id = :userId")
+    Optional<Lead> findByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.version.EntityVersionDTO(l.id, l.modifiedAt) " +
+            "FROM Lead l WHERE l.id = :id")
+    Optional<EntityVersionDTO> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.version.EntityVersionDTO(l.id, l.modifiedAt) " +
+            "FROM Lead l WHERE l.id = :id AND l.user.id = :userId")
+    Optional<EntityVersionDTO> findVersionByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.version.CollectionVersionDTO(COUNT(l), MAX(l.modifiedAt)) " +
+            "FROM Lead l WHERE l.user.id = :userId")
+    CollectionVersionDTO findVersionByOwner(@Param("userId") Long userId);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.sync.LeadChangeDTO(" +
+            "l.id, l.name, l.email, l.phone, l.origin, l.status, u.id, u.name, u.email, u.role, l.modifiedAt) " +
+            "FROM Lead l JOIN l.user u WHERE u.id = :userId AND l.modifiedAt <= :until " +
+            "AND (l.modifiedAt > :at OR (l.modifiedAt = :at AND l.id > :afterId)) " +
+            "ORDER BY l.modifiedAt ASC, l.id ASC")
+    List<LeadChangeDTO> findChangesByOwner(@Param("userId") Long userId, @Param("at") LocalDateTime at,
+                                           @Param("afterId") Long afterId, @Param("until") LocalDateTime until,
+                                           Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Lead l WHERE l.id = :id AND l.user.id = :userId")
+    int deleteByIdAndOwner(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT l.email FROM Lead l WHERE l.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.lead.LeadResponseDTO(" +
+            "l.id, l.name, l.email, l.phone, l.origin, l.status, u.id, u.name, u.email, u.role) " +
+            "FROM Lead l JOIN l.user u WHERE l.id > :afterId ORDER BY l.id ASC")
+    List<LeadResponseDTO> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.lead.LeadResponseDTO(" +
+            "l.id, l.name, l.email, l.phone, l.origin, l.status, u.id, u.name, u.email, u.role) " +
+            "FROM Lead l JOIN l.user u WHERE u.id = :userId AND l.id > :afterId ORDER BY l.id ASC")
+    List<LeadResponseDTO> findPageByUserAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new tech.silva.connectcrm.dtos.lead.LeadResponseDTO(" +
+            "l.id, l.name, l.email, l.phone, l.origin, l.status, u.id, u.name, u.email, u.role) " +
+            "FROM Lead l JOIN l.user u ORDER BY l.id ASC")
+    Stream<LeadResponseDTO> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new tech.silva.connectcrm.dtos.lead.LeadResponseDTO(" +
+            "l.id, l.name, l.email, l.phone, l.origin, l.status, u.id, u.name, u.email, u.role) " +
+            "FROM Lead l JOIN l.user u WHERE l.modifiedAt >= :since ORDER BY l.id ASC")
+    Stream<LeadResponseDTO> streamModifiedSince(@Param("since") LocalDateTime since);
+
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Lead> findAll(Specification<Lead> spec, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new tech.silva.connectcrm.dtos.lead.LeadStatusDTO(l.id, l.user.id, l.status) " +
+            "FROM Lead l WHERE l.id IN :ids AND l.status <> :status ORDER BY l.id")
+    List<LeadStatusDTO> lockStatusChanges(@Param("ids") Collection<Long> ids, @Param("status") StatusLead status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new tech.silva.connectcrm.dtos.lead.LeadStatusDTO(l.id, l.user.id, l.status) " +
+            "FROM Lead l WHERE l.id IN :ids AND l.user.id = :userId AND l.status <> :status ORDER BY l.id")
+    List<LeadStatusDTO> lockStatusChangesForOwner(@Param("ids") Collection<Long> ids, @Param("userId") Long userId,
+                                                  @Param("status") StatusLead status);
+
+    @Modifying
+    @Query("UPDATE Lead l SET l.status = :status, l.modifiedAt = :modifiedAt, l.modifiedBy = :modifiedBy " +
+            "WHERE l.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") StatusLead status,
+                     @Param("modifiedAt") LocalDateTime modifiedAt, @Param("modifiedBy") String modifiedBy);
 }
@@ -0,0 +1,7 @@
+package tech.silva.connectcrm.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import tech.silva.connectcrm.models.OutboxCursor;
+
+public interface IOutboxCursorRepository extends JpaRepository<OutboxCursor, String> {
+}
@@ -0,0 +1,46 @@
+package tech.silva.connectcrm.repositories;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import tech.silva.connectcrm.models.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface IOutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT o FROM OutboxEvent o WHERE o.publishedAt IS NULL AND o.parkedAt IS NULL ORDER BY o.sequenceNumber ASC")
+    List<OutboxEvent> findPending(Limit limit);
+
+    @Query("SELECT o FROM OutboxEvent o WHERE o.sequenceNumber > :after ORDER BY o.sequenceNumber ASC")
+    List<OutboxEvent> findAfter(@Param("after") Long after, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(o.sequenceNumber), 0) FROM OutboxEvent o")
+    Long findLastSequenceNumber();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.publishedAt = :publishedAt, o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1, o.lastError = :error WHERE o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1, o.lastError = :error, o.parkedAt = :parkedAt " +
+            "WHERE o.id = :id")
+    int park(@Param("id") Long id, @Param("error") String error, @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
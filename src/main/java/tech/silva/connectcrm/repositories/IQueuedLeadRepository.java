@@ -0,0 +1,37 @@
+package tech.silva.connectcrm.repositories;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import tech.silva.connectcrm.models.QueuedLead;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IQueuedLeadRepository extends JpaRepository<QueuedLead, Long> {
+
+    /**
+     * Leads that have not failed yet come first, in arrival order, then the ones being retried.
+     */
+    @Query("SELECT q FROM QueuedLead q WHERE q.parkedAt IS NULL ORDER BY q.attempts ASC, q.id ASC")
+    List<QueuedLead> findOldest(Limit limit);
+
+    long countByParkedAtIsNull();
+
+    @Query("SELECT MIN(q.receivedAt) FROM QueuedLead q WHERE q.parkedAt IS NULL")
+    LocalDateTime findOldestReceivedAt();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE QueuedLead q SET q.attempts = q.attempts + 1, q.lastError = :error WHERE q.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE QueuedLead q SET q.attempts = q.attempts + 1, q.lastError = :error, q.parkedAt = :parkedAt " +
+            "WHERE q.id = :id")
+    int park(@Param("id") Long id, @Param("error") String error, @Param("parkedAt") LocalDateTime parkedAt);
+}
@@ -0,0 +1,31 @@
+package tech.silva.connectcrm.repositories;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.silva.connectcrm.dtos.sync.TombstoneDTO;
+import tech.silva.connectcrm.models.Tombstone;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ITombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.sync.TombstoneDTO(t.id, t.type, t.recordId, t.deletedAt) " +
+            "FROM Tombstone t WHERE t.ownerId = :ownerId AND t.deletedAt <= :until " +
+            "AND (t.deletedAt > :at OR (t.deletedAt = :at AND t.id > :afterId)) " +
+            "ORDER BY t.deletedAt ASC, t.id ASC")
+    List<TombstoneDTO> findChangesByOwner(@Param("ownerId") Long ownerId, @Param("at") LocalDateTime at,
+                                          @Param("afterId") Long afterId, @Param("until") LocalDateTime until,
+                                          Limit limit);
+
+    @Query("SELECT new tech.silva.connectcrm.dtos.sync.TombstoneDTO(t.id, t.type, t.recordId, t.deletedAt) " +
+            "FROM Tombstone t WHERE t.deletedAt >= :since ORDER BY t.deletedAt ASC, t.id ASC")
+    List<TombstoneDTO> findDeletedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -1,10 +1,26 @@
 package tech.silva.connectcrm.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import tech.silva.connectcrm.models.AppUser;
 
 import java.util.Optional;
 
 public interface IUserRepository extends JpaRepository<AppUser, Long> {
+
+    String USERS_BY_EMAIL_REGION = "users-by-email";
+
+    /**
+     * Cached in the {@value #USERS_BY_EMAIL_REGION} query region. Hibernate drops the cached result
+     * as soon as the {@code users} table is written on this instance, and the entity itself comes
+     * from the {@code users} entity region. Writes on other instances show up once the entries
+     * expire, see {@code application.conf}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USERS_BY_EMAIL_REGION)
+    })
     Optional<AppUser> findByEmail(String email);
 }
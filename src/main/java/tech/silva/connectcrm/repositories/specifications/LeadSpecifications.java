@@ -0,0 +1,37 @@
+package tech.silva.connectcrm.repositories.specifications;
+
+import org.springframework.data.jpa.domain.Specification;
+import tech.silva.connectcrm.enums.StatusLead;
+import tech.silva.connectcrm.models.Lead;
+
+import java.time.LocalDateTime;
+
+/**
+ * Building blocks for the lead search. Every predicate is optional and returns {@code null} when
+ * its filter is absent, which {@link Specification#where} and {@code and} simply skip.
+ */
+public final class LeadSpecifications {
+
+    private LeadSpecifications() {
+    }
+
+    public static Specification<Lead> ownedBy(Long userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Lead> hasStatus(StatusLead status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Lead> hasOrigin(String origin) {
+        return (root, query, cb) -> origin == null || origin.isBlank() ? null : cb.equal(root.get("origin"), origin);
+    }
+
+    public static Specification<Lead> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Lead> createdUntil(LocalDateTime until) {
+        return (root, query, cb) -> until == null ? null : cb.lessThan(root.get("createdAt"), until);
+    }
+}
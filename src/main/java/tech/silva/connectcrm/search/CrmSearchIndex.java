@@ -0,0 +1,451 @@
+package tech.silva.connectcrm.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tech.silva.connectcrm.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.dtos.search.SearchHitDTO;
+import tech.silva.connectcrm.dtos.sync.TombstoneDTO;
+import tech.silva.connectcrm.enums.ChangeType;
+import tech.silva.connectcrm.enums.SearchDocumentType;
+import tech.silva.connectcrm.events.ClientChangedEvent;
+import tech.silva.connectcrm.events.LeadChangedEvent;
+import tech.silva.connectcrm.outbox.OutboxMessage;
+import tech.silva.connectcrm.outbox.OutboxTail;
+import tech.silva.connectcrm.outbox.RemoteChangeEvent;
+import tech.silva.connectcrm.services.ClientService;
+import tech.silva.connectcrm.services.LeadService;
+import tech.silva.connectcrm.services.SyncService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded Lucene index over leads and clients, kept in sync with {@link LeadService} and
+ * {@link ClientService} through their change events once the write transaction commits, and with
+ * the changes of other instances and of the reactive application through {@link OutboxTail}.
+ * <p>
+ * Names, emails, phones and addresses are normalized (lower case, accents stripped) and split into
+ * alphanumeric tokens, each indexed as an exact term so prefix and fuzzy queries run straight
+ * against the term dictionary. Phones are also indexed as a single digits-only token.
+ * <p>
+ * The index is local to this instance and committed every {@code connectcrm.search.commit-interval},
+ * so a crash loses the changes since the last commit. Each commit therefore records in its user
+ * data how far the index is known to be complete, and {@link #startCatchUp} reindexes from that
+ * mark on startup.
+ */
+@Component
+public class CrmSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CrmSearchIndex.class);
+
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_OWNER = "owner";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_EMAIL = "email";
+    private static final String FIELD_PHONE = "phone";
+    private static final String FIELD_TEXT = "text";
+    private static final String INDEXED_UNTIL = "indexedUntil";
+
+    private static final int FUZZY_MIN_LENGTH = 4;
+    private static final int FUZZY_TWO_EDITS_MIN_LENGTH = 7;
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final LeadService leadService;
+    private final ClientService clientService;
+    private final SyncService syncService;
+    private final ObjectMapper objectMapper;
+    private final Duration catchUpOverlap;
+    private final Duration tombstoneRetention;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    private final Object pendingLock = new Object();
+    // live changes held back until the catch-up is done, null from then on
+    private List<Runnable> pending = new ArrayList<>();
+    private volatile boolean caughtUp;
+
+    public CrmSearchIndex(@Value("${connectcrm.search.index-dir}") String indexDir,
+                          @Value("${connectcrm.search.catch-up-overlap}") Duration catchUpOverlap,
+                          @Value("${connectcrm.sync.tombstone-retention}") Duration tombstoneRetention,
+                          LeadService leadService, ClientService clientService, SyncService syncService,
+                          ObjectMapper objectMapper) throws IOException {
+        this.leadService = leadService;
+        this.clientService = clientService;
+        this.syncService = syncService;
+        this.objectMapper = objectMapper;
+        this.catchUpOverlap = catchUpOverlap;
+        this.tombstoneRetention = tombstoneRetention;
+        this.directory = FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Brings the index up to date in the background. A fresh index, or one whose mark is older
+     * than the tombstone retention (deletions since then are gone), is rebuilt from scratch;
+     * otherwise only the records changed since the mark, minus {@code catch-up-overlap} for
+     * transactions that were still committing, are reindexed. Changes committed meanwhile are held
+     * back and applied afterwards, so the snapshot never overwrites a newer version of a record.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startCatchUp() {
+        Thread catchUp = new Thread(this::catchUp, "search-index-catch-up");
+        catchUp.setDaemon(true);
+        catchUp.start();
+    }
+
+    void catchUp() {
+        LocalDateTime indexedUntil = indexedUntil();
+        boolean complete = false;
+        try {
+            if (indexedUntil == null || indexedUntil.isBefore(LocalDateTime.now().minus(tombstoneRetention)))
+                rebuild();
+            else
+                catchUpSince(indexedUntil.minus(catchUpOverlap));
+            complete = true;
+        } catch (RuntimeException ex) {
+            log.error("Search index catch-up failed, the index stays behind until the next restart", ex);
+        }
+        applyPending();
+        caughtUp = complete;
+        try {
+            commit();
+        } catch (IOException ex) {
+            log.error("Search index commit failed", ex);
+        }
+    }
+
+    /**
+     * Drops every document and indexes all leads and clients again. The mark recorded is the start
+     * of the rebuild: anything committed while it ran comes in as a live change.
+     */
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        try {
+            writer.deleteAll();
+            reindex(null);
+            commit(startedAt);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("Search index rebuilt with {} documents in {} ms",
+                writer.getDocStats().numDocs, System.currentTimeMillis() - start);
+    }
+
+    private void catchUpSince(LocalDateTime since) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        reindex(since);
+        for (TombstoneDTO tombstone : syncService.deletionsSince(since))
+            delete(SearchDocumentType.valueOf(tombstone.type().name()), tombstone.id());
+        try {
+            commit(startedAt);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("Search index caught up from {} in {} ms", since, System.currentTimeMillis() - start);
+    }
+
+    private void reindex(LocalDateTime since) {
+        leadService.exportLeadsModifiedSince(since,
+                lead -> upsert(SearchDocumentType.LEAD, lead.id(), toDocument(lead)));
+        clientService.exportClientsModifiedSince(since,
+                client -> upsert(SearchDocumentType.CLIENT, client.id(), toDocument(client)));
+    }
+
+    @TransactionalEventListener
+    public void onLeadChanged(LeadChangedEvent event) {
+        if (event.type() == ChangeType.DELETED)
+            apply(() -> delete(SearchDocumentType.LEAD, event.leadId()));
+        else
+            apply(() -> upsert(SearchDocumentType.LEAD, event.leadId(), toDocument(event.lead())));
+    }
+
+    @TransactionalEventListener
+    public void onClientChanged(ClientChangedEvent event) {
+        if (event.type() == ChangeType.DELETED)
+            apply(() -> delete(SearchDocumentType.CLIENT, event.clientId()));
+        else
+            apply(() -> upsert(SearchDocumentType.CLIENT, event.clientId(), toDocument(event.client())));
+    }
+
+    /**
+     * Status changes are ignored, the status is not indexed.
+     */
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        OutboxMessage message = event.message();
+        switch (message.type()) {
+            case LEAD_CREATED, LEAD_UPDATED -> {
+                LeadResponseDTO lead = read(message.payload(), LeadResponseDTO.class);
+                apply(() -> upsert(SearchDocumentType.LEAD, message.aggregateId(), toDocument(lead)));
+            }
+            case CLIENT_CREATED, CLIENT_UPDATED -> {
+                ClientResponseDTO client = read(message.payload(), ClientResponseDTO.class);
+                apply(() -> upsert(SearchDocumentType.CLIENT, message.aggregateId(), toDocument(client)));
+            }
+            case LEAD_DELETED -> apply(() -> delete(SearchDocumentType.LEAD, message.aggregateId()));
+            case CLIENT_DELETED -> apply(() -> delete(SearchDocumentType.CLIENT, message.aggregateId()));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Applies a live change, or holds it back while the catch-up is still reading its snapshot.
+     */
+    private void apply(Runnable change) {
+        synchronized (pendingLock) {
+            if (pending != null) {
+                pending.add(change);
+                return;
+            }
+        }
+        change.run();
+    }
+
+    private void applyPending() {
+        while (true) {
+            List<Runnable> changes;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    pending = null;
+                    return;
+                }
+                changes = pending;
+                pending = new ArrayList<>();
+            }
+            for (Runnable change : changes) {
+                try {
+                    change.run();
+                } catch (UncheckedIOException ex) {
+                    log.error("Search index change failed", ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Every query token must match the document, either exactly, as a prefix or, for longer
+     * tokens, within one or two edits. {@code type} and {@code ownerId} are optional filters.
+     */
+    public List<SearchHitDTO> search(String text, SearchDocumentType type, Long ownerId, int limit) {
+        Set<String> tokens = tokenize(text);
+        if (tokens.isEmpty())
+            return List.of();
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String token : tokens)
+            query.add(tokenQuery(token), BooleanClause.Occur.MUST);
+        if (type != null)
+            query.add(new TermQuery(new Term(FIELD_TYPE, type.name())), BooleanClause.Occur.FILTER);
+        if (ownerId != null)
+            query.add(new TermQuery(new Term(FIELD_OWNER, ownerId.toString())), BooleanClause.Occur.FILTER);
+
+        try {
+            searcherManager.maybeRefresh();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHitDTO> hits = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs)
+                    hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Commits pending changes. Once caught up, every change committed to the database up to now has
+     * been applied, so the mark moves to now; before that it stays where the last catch-up left it.
+     */
+    @Scheduled(fixedDelayString = "${connectcrm.search.commit-interval}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges())
+            commit(caughtUp ? LocalDateTime.now() : null);
+    }
+
+    private synchronized void commit(LocalDateTime indexedUntil) throws IOException {
+        if (indexedUntil != null)
+            writer.setLiveCommitData(Map.of(INDEXED_UNTIL, indexedUntil.toString()).entrySet());
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private LocalDateTime indexedUntil() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (INDEXED_UNTIL.equals(entry.getKey()))
+                    return LocalDateTime.parse(entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private <T> T read(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void upsert(SearchDocumentType type, Long id, Document document) {
+        try {
+            writer.updateDocument(new Term(FIELD_KEY, key(type, id)), document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void delete(SearchDocumentType type, Long id) {
+        try {
+            writer.deleteDocuments(new Term(FIELD_KEY, key(type, id)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Document toDocument(LeadResponseDTO lead) {
+        Document document = baseDocument(SearchDocumentType.LEAD, lead.id(), lead.user().id(),
+                lead.name(), lead.email(), lead.phone());
+        addText(document, lead.name(), lead.email(), lead.phone(), lead.origin());
+        return document;
+    }
+
+    private static Document toDocument(ClientResponseDTO client) {
+        Document document = baseDocument(SearchDocumentType.CLIENT, client.id(), client.user().id(),
+                client.name(), client.email(), client.phone());
+        addText(document, client.name(), client.email(), client.phone(), client.document(), client.address());
+        return document;
+    }
+
+    private static Document baseDocument(SearchDocumentType type, Long id, Long ownerId,
+                                         String name, String email, String phone) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_KEY, key(type, id), Field.Store.NO));
+        document.add(new StringField(FIELD_TYPE, type.name(), Field.Store.YES));
+        document.add(new StoredField(FIELD_ID, id));
+        document.add(new StringField(FIELD_OWNER, ownerId.toString(), Field.Store.YES));
+        if (name != null)
+            document.add(new StoredField(FIELD_NAME, name));
+        if (email != null)
+            document.add(new StoredField(FIELD_EMAIL, email));
+        if (phone != null) {
+            document.add(new StoredField(FIELD_PHONE, phone));
+            String digits = phone.replaceAll("\\D", "");
+            if (!digits.isEmpty())
+                document.add(new StringField(FIELD_TEXT, digits, Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String... values) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String value : values)
+            tokens.addAll(tokenize(value));
+        for (String token : tokens)
+            document.add(new StringField(FIELD_TEXT, token, Field.Store.NO));
+    }
+
+    private static Query tokenQuery(String token) {
+        Term term = new Term(FIELD_TEXT, token);
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(term), 3f), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(term), 2f), BooleanClause.Occur.SHOULD);
+        if (token.length() >= FUZZY_MIN_LENGTH)
+            query.add(new FuzzyQuery(term, token.length() >= FUZZY_TWO_EDITS_MIN_LENGTH ? 2 : 1), BooleanClause.Occur.SHOULD);
+        return query.build();
+    }
+
+    private static Set<String> tokenize(String value) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (value == null)
+            return tokens;
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String token : NON_ALPHANUMERIC.split(normalized)) {
+            if (!token.isEmpty())
+                tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static SearchHitDTO toHit(Document document, float score) {
+        return new SearchHitDTO(
+                SearchDocumentType.valueOf(document.get(FIELD_TYPE)),
+                document.getField(FIELD_ID).numericValue().longValue(),
+                document.get(FIELD_NAME),
+                document.get(FIELD_EMAIL),
+                document.get(FIELD_PHONE),
+                Long.valueOf(document.get(FIELD_OWNER)),
+                score
+        );
+    }
+
+    private static String key(SearchDocumentType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
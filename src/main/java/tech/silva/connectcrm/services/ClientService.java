@@ -1,9 +1,19 @@
 package tech.silva.connectcrm.services;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tech.silva.connectcrm.dtos.client.ClientResponseDTO;
+import tech.silva.connectcrm.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.enums.ChangeType;
+import tech.silva.connectcrm.enums.RecordType;
 import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.events.ClientChangedEvent;
 import tech.silva.connectcrm.exceptions.EntityNotAvailableForViewException;
 import tech.silva.connectcrm.exceptions.UniqueUserViolationException;
 import tech.silva.connectcrm.models.AppUser;
@@ -11,18 +21,27 @@ import tech.silva.connectcrm.models.Client;
 import tech.silva.connectcrm.repositories.IClientRepository;
 import tech.silva.connectcrm.repositories.IUserRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
+@Timed(value = "connectcrm.service", histogram = true)
 public class ClientService {
 
     private final IClientRepository clientRepository;
     private final IUserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncService syncService;
 
-    public ClientService(IClientRepository clientRepository, IUserRepository userRepository) {
+    public ClientService(IClientRepository clientRepository, IUserRepository userRepository,
+                         ApplicationEventPublisher eventPublisher, SyncService syncService) {
         this.clientRepository = clientRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.syncService = syncService;
     }
 
     public Client saveClient(Client client, Long idUser){
@@ -32,95 +51,124 @@ public class ClientService {
                             String.format("User with Id= %s not found", idUser));
                 }
         );
-        if (clientRepository.findByEmail(client.getEmail()).isPresent())
+        client.setUser(user);
+        Client savedClient;
+        try {
+            savedClient = clientRepository.saveAndFlush(client);
+        } catch (DataIntegrityViolationException ex) {
+            if (!UniqueUserViolationException.isUniqueViolation(ex))
+                throw ex;
             throw new UniqueUserViolationException(
                     String.format("Client with email: %s already registered. Try again!", client.getEmail()));
-
-        client.setUser(user);
-        return clientRepository.save(client);
+        }
+        eventPublisher.publishEvent(new ClientChangedEvent(
+                ChangeType.CREATED, savedClient.getId(), user.getId(), ClientResponseDTO.toClientDto(savedClient)));
+        return savedClient;
     }
 
     @Transactional(readOnly = true)
-    public List<Client> getAllClient(){
-        return clientRepository.findAll();
+    public List<ClientResponseDTO> getAllClient(Long afterId, int size){
+        return clientRepository.findPageAfter(afterId, Limit.of(size + 1));
     }
 
-    @Transactional(readOnly = true)
-    public List<Client> getMyClients(Long id) {
-        AppUser user = userRepository.findById(id).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("User with Id= %s not found", id));
-                }
-        );
+    /**
+     * Runs on the primary like {@link #getMyClientsVersion}: the page goes out under the ETag read
+     * there, and one from a lagging replica would be cached by the client as that version.
+     */
+    public List<ClientResponseDTO> getMyClients(Long id, Long afterId, int size) {
+        return clientRepository.findPageByUserAfter(id, afterId, Limit.of(size + 1));
+    }
 
-        return clientRepository.findAllByUser(user);
+    /**
+     * Not read-only, so it runs on the primary: a lagging replica would answer 304 to a client that
+     * has just changed one of its clients.
+     */
+    public CollectionVersionDTO getMyClientsVersion(Long id) {
+        return clientRepository.findVersionByOwner(id);
     }
 
-    @Transactional(readOnly = true)
-    public Client getClientById(Long id, Long userId) {
-        AppUser user = userRepository.findById(userId).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("User with Id= %s not found", userId));
-                }
-        );
-        Client client = clientRepository.findById(id).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("client with Id= %s not found", id));
-                }
-        );
-        if (!user.getRole().equals(Role.ROLE_SELLER))
-            return client;
-        else if (!client.getUser().equals(user))
-            throw new EntityNotAvailableForViewException("This client is not available for viewing by this user");
-        return client;
+    /**
+     * Loads the client and its owner in one statement. For sellers the owner is part of the WHERE
+     * clause; only when nothing matches is a second lookup made to tell a missing client from one
+     * that belongs to somebody else. Runs on the primary, for the reason given on {@link #getMyClients}.
+     */
+    public Client getClientById(Long id, Long userId, Role role) {
+        if (!role.equals(Role.ROLE_SELLER))
+            return clientRepository.findWithOwnerById(id).orElseThrow(() -> clientNotFound(id));
+        return clientRepository.findByIdAndOwner(id, userId)
+                .orElseThrow(() -> clientNotFoundOrNotAvailable(id, "viewing"));
     }
 
-    public Client updateClient(Client client, Long id){
-        AppUser user = userRepository.findById(id).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("User with Id= %s not found", id));
-                }
-        );
+    /**
+     * Version of the client returned by {@link #getClientById}, with the same access rules, read without
+     * loading the entity so conditional GETs can be answered before any work is done. Runs on the
+     * primary, for the reason given on {@link #getMyClientsVersion}.
+     */
+    public EntityVersionDTO getClientVersion(Long id, Long userId, Role role) {
+        if (!role.equals(Role.ROLE_SELLER))
+            return clientRepository.findVersionById(id).orElseThrow(() -> clientNotFound(id));
+        return clientRepository.findVersionByIdAndOwner(id, userId)
+                .orElseThrow(() -> clientNotFoundOrNotAvailable(id, "viewing"));
+    }
 
-        Client clientSaved = clientRepository.findById(client.getId()).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("Client with Id= %s not found", client.getId()));
-                }
-        );
+    /**
+     * Flushes the UPDATE before publishing the change, so the row lock is held before the outbox
+     * row gets its id: concurrent updates of a client then get outbox ids in commit order.
+     */
+    public Client updateClient(Client client, Long id){
+        Client clientSaved = clientRepository.findByIdAndOwner(client.getId(), id)
+                .orElseThrow(() -> clientNotFoundOrNotAvailable(client.getId(), "updating"));
 
         clientSaved.setName(client.getName());
         clientSaved.setPhone(client.getPhone());
         clientSaved.setDocument(client.getDocument());
         clientSaved.setAddress(client.getAddress());
 
-        if (!clientSaved.getUser().equals(user))
-            throw new EntityNotAvailableForViewException("This client is not available for viewing by this user");
-        return clientRepository.save(clientSaved);
+        clientSaved = clientRepository.saveAndFlush(clientSaved);
+        eventPublisher.publishEvent(new ClientChangedEvent(
+                ChangeType.UPDATED, clientSaved.getId(), id, ClientResponseDTO.toClientDto(clientSaved)));
+        return clientSaved;
     }
 
     public void deleteClient(Long idClient, Long id){
-        AppUser user = userRepository.findById(id).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("User with Id= %s not found", id));
-                }
-        );
+        if (clientRepository.deleteByIdAndOwner(idClient, id) == 0)
+            throw clientNotFoundOrNotAvailable(idClient, "deleting");
+        syncService.recordDeletion(RecordType.CLIENT, idClient, id);
+        eventPublisher.publishEvent(new ClientChangedEvent(ChangeType.DELETED, idClient, id, null));
+    }
 
-        Client clientSaved = clientRepository.findById(idClient).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("Client with Id= %s not found", idClient));
-                }
-        );
-        if (!clientSaved.getUser().equals(user))
-            throw new EntityNotAvailableForViewException("This client is not available for viewing by this user");
-        clientRepository.delete(clientSaved);
+    /**
+     * Streams every client to the consumer inside a single read-only transaction. Rows are read as
+     * DTO projections, so nothing accumulates in the persistence context however large the table is.
+     */
+    @Transactional(readOnly = true)
+    public void exportClients(Consumer<ClientResponseDTO> consumer) {
+        try (Stream<ClientResponseDTO> clients = clientRepository.streamAll()) {
+            clients.forEach(consumer);
+        }
     }
 
+    /**
+     * Streams the clients modified at or after {@code since}, or every client when it is null, like
+     * {@link #exportClients}. Runs on the primary: a replica lagging behind could miss the latest
+     * changes the caller is catching up on.
+     */
+    @Transactional
+    public void exportClientsModifiedSince(LocalDateTime since, Consumer<ClientResponseDTO> consumer) {
+        try (Stream<ClientResponseDTO> clients = since == null
+                ? clientRepository.streamAll() : clientRepository.streamModifiedSince(since)) {
+            clients.forEach(consumer);
+        }
+    }
 
+    private EntityNotFoundException clientNotFound(Long id) {
+        return new EntityNotFoundException(String.format("Client with Id= %s not found", id));
+    }
+
+    private RuntimeException clientNotFoundOrNotAvailable(Long id, String action) {
+        if (!clientRepository.existsById(id))
+            return clientNotFound(id);
+        return new EntityNotAvailableForViewException(
+                String.format("This client is not available for %s by this user", action));
+    }
 }
@@ -0,0 +1,194 @@
+package tech.silva.connectcrm.services;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import tech.silva.connectcrm.dtos.lead.LeadCreateDTO;
+import tech.silva.connectcrm.dtos.lead.LeadImportErrorDTO;
+import tech.silva.connectcrm.dtos.lead.LeadImportResultDTO;
+import tech.silva.connectcrm.exceptions.InvalidImportFileException;
+import tech.silva.connectcrm.exceptions.UniqueUserViolationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports leads from a CSV upload with the header {@code name,email,phone,origin}. The body is read
+ * line by line and handed to {@link LeadService#saveLeads} in chunks of {@link #CHUNK_SIZE}, each in
+ * its own transaction, so memory stays bounded whatever the file size. Rows are validated like
+ * {@link LeadCreateDTO}; rejected rows are reported at the end instead of failing the import.
+ */
+@Service
+public class LeadImportService {
+
+    public static final int CHUNK_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final List<String> HEADER = List.of("name", "email", "phone", "origin");
+
+    private final LeadService leadService;
+    private final Validator validator;
+
+    public LeadImportService(LeadService leadService, Validator validator) {
+        this.leadService = leadService;
+        this.validator = validator;
+    }
+
+    public LeadImportResultDTO importCsv(InputStream csv, Long userId) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+
+        String header = reader.readLine();
+        if (header == null)
+            return progress.toResult();
+        if (!parseLine(stripBom(header)).stream().map(String::trim).map(String::toLowerCase).toList().equals(HEADER))
+            throw new InvalidImportFileException("CSV header must be " + String.join(",", HEADER));
+
+        Map<String, Long> chunk = new HashMap<>();
+        List<LeadCreateDTO> rows = new ArrayList<>(CHUNK_SIZE);
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank())
+                continue;
+            progress.totalRows++;
+
+            LeadCreateDTO row = toDto(parseLine(line));
+            if (row == null) {
+                progress.reject(lineNumber, null, "Expected 4 columns: " + String.join(",", HEADER));
+                continue;
+            }
+            Set<ConstraintViolation<LeadCreateDTO>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                progress.reject(lineNumber, row.email(), violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            if (chunk.putIfAbsent(LeadService.normalizeEmail(row.email()), lineNumber) != null) {
+                progress.reject(lineNumber, row.email(), "Duplicate email in this file");
+                continue;
+            }
+            rows.add(row);
+
+            if (rows.size() == CHUNK_SIZE) {
+                flushChunk(rows, chunk, userId, progress);
+                rows = new ArrayList<>(CHUNK_SIZE);
+                chunk = new HashMap<>();
+            }
+        }
+        if (!rows.isEmpty())
+            flushChunk(rows, chunk, userId, progress);
+        return progress.toResult();
+    }
+
+    /**
+     * Emails repeated across chunks are caught by the existence query of the later chunk, because
+     * earlier chunks are already committed by then. {@code lines} is keyed by normalized email.
+     * <p>
+     * A chunk the database rejects (a lead registered meanwhile, or a row breaking another
+     * constraint) is rolled back whole and its rows are saved again one by one, so only the rows at
+     * fault are reported.
+     */
+    private void flushChunk(List<LeadCreateDTO> rows, Map<String, Long> lines, Long userId, ImportProgress progress) {
+        Set<String> skipped;
+        try {
+            skipped = leadService.saveLeads(rows.stream().map(LeadCreateDTO::toLead).toList(), userId);
+        } catch (DataIntegrityViolationException ex) {
+            for (LeadCreateDTO row : rows)
+                saveRow(row, lines.get(LeadService.normalizeEmail(row.email())), userId, progress);
+            return;
+        }
+        progress.imported += rows.size() - skipped.size();
+        for (String email : skipped)
+            progress.reject(lines.get(email), email, alreadyRegistered(email));
+    }
+
+    private void saveRow(LeadCreateDTO row, long line, Long userId, ImportProgress progress) {
+        try {
+            if (leadService.saveLeads(List.of(LeadCreateDTO.toLead(row)), userId).isEmpty())
+                progress.imported++;
+            else
+                progress.reject(line, row.email(), alreadyRegistered(row.email()));
+        } catch (DataIntegrityViolationException ex) {
+            progress.reject(line, row.email(), UniqueUserViolationException.isUniqueViolation(ex)
+                    ? alreadyRegistered(row.email())
+                    : "Rejected by the database: " + ex.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private static String alreadyRegistered(String email) {
+        return String.format("Lead with email: %s already registered", email);
+    }
+
+    private static LeadCreateDTO toDto(List<String> columns) {
+        if (columns.size() != HEADER.size())
+            return null;
+        return new LeadCreateDTO(columns.get(0).trim(), columns.get(1).trim(), columns.get(2).trim(), columns.get(3).trim());
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    /**
+     * Splits one CSV record, honouring double-quoted fields and {@code ""} escapes. Quoted fields
+     * spanning several lines are not supported.
+     */
+    static List<String> parseLine(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"')
+                    quoted = false;
+                else
+                    current.append(c);
+            } else if (c == '"')
+                quoted = true;
+            else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else
+                current.append(c);
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    private static class ImportProgress {
+        private long totalRows;
+        private long imported;
+        private long rejected;
+        private final List<LeadImportErrorDTO> errors = new ArrayList<>();
+
+        private void reject(long line, String email, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS)
+                errors.add(new LeadImportErrorDTO(line, email, message));
+        }
+
+        private LeadImportResultDTO toResult() {
+            errors.sort(Comparator.comparingLong(LeadImportErrorDTO::line));
+            return new LeadImportResultDTO(totalRows, imported, rejected, errors);
+        }
+    }
+}
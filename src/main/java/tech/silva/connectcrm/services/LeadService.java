@@ -1,28 +1,69 @@
 package tech.silva.connectcrm.services;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.dtos.version.CollectionVersionDTO;
+import tech.silva.connectcrm.dtos.version.EntityVersionDTO;
+import tech.silva.connectcrm.dtos.lead.LeadSearchDTO;
+import tech.silva.connectcrm.dtos.lead.LeadStatusDTO;
+import tech.silva.connectcrm.enums.ChangeType;
+import tech.silva.connectcrm.enums.RecordType;
 import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.enums.StatusLead;
+import tech.silva.connectcrm.events.LeadChangedEvent;
+import tech.silva.connectcrm.events.LeadStatusChangedEvent;
 import tech.silva.connectcrm.exceptions.EntityNotAvailableForViewException;
+import tech.silva.connectcrm.exceptions.InvalidSearchException;
 import tech.silva.connectcrm.exceptions.UniqueUserViolationException;
 import tech.silva.connectcrm.models.AppUser;
 import tech.silva.connectcrm.models.Lead;
 import tech.silva.connectcrm.repositories.ILeadRepository;
 import tech.silva.connectcrm.repositories.IUserRepository;
+import tech.silva.connectcrm.repositories.specifications.LeadSpecifications;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
+@Timed(value = "connectcrm.service", histogram = true)
 public class LeadService {
 
+    private static final Set<String> SEARCH_SORT_PROPERTIES = Set.of("id", "name", "status", "origin", "createdAt", "modifiedAt");
+
     private final ILeadRepository leadRepository;
     private final IUserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final AuditorAware<String> auditorAware;
+    private final SyncService syncService;
 
-    public LeadService(ILeadRepository leadRepository, IUserRepository userRepository) {
+    public LeadService(ILeadRepository leadRepository, IUserRepository userRepository,
+                       ApplicationEventPublisher eventPublisher, EntityManager entityManager,
+                       AuditorAware<String> auditorAware, SyncService syncService) {
         this.leadRepository = leadRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.auditorAware = auditorAware;
+        this.syncService = syncService;
     }
 
     public Lead saveLead(Lead lead, Long id){
@@ -32,86 +73,216 @@ public class LeadService {
                             String.format("User with Id= %s not found", id));
                 }
         );
-        if (leadRepository.findByEmail(lead.getEmail()).isPresent())
+        lead.setUser(user);
+        Lead savedLead;
+        try {
+            savedLead = leadRepository.saveAndFlush(lead);
+        } catch (DataIntegrityViolationException ex) {
+            if (!UniqueUserViolationException.isUniqueViolation(ex))
+                throw ex;
             throw new UniqueUserViolationException(
                     String.format("Lead with email: %s already registered. Try again!", lead.getEmail()));
-
-        lead.setUser(user);
-        return leadRepository.save(lead);
+        }
+        eventPublisher.publishEvent(new LeadChangedEvent(
+                ChangeType.CREATED, savedLead.getId(), user.getId(), LeadResponseDTO.toLeadDto(savedLead)));
+        return savedLead;
     }
 
-    public List<Lead> listAllLeads(){
-        return leadRepository.findAll();
-    }
-
-    public List<Lead> getMyLeads(Long id) {
+    /**
+     * Inserts a batch of leads in one transaction. Emails already registered are checked with a
+     * single IN query and skipped; the rest go out as JDBC batches. The persistence context is
+     * flushed once the change events (and whatever their listeners write) are out, then cleared so
+     * consecutive batches of a large import do not accumulate entities.
+     * <p>
+     * Emails are compared {@linkplain #normalizeEmail normalized}. The batch must not repeat an
+     * email: a repeat the unique index catches, or a lead registered meanwhile, fails the flush with
+     * a {@link DataIntegrityViolationException} and rolls the whole batch back.
+     *
+     * @return the normalized emails that were skipped because they already exist
+     */
+    public Set<String> saveLeads(List<Lead> leads, Long id) {
         AppUser user = userRepository.findById(id).orElseThrow(
                 () ->  {
                     throw new EntityNotFoundException(
                             String.format("User with Id= %s not found", id));
                 }
         );
-        return leadRepository.findAllByUser(user);
+        Set<String> existingEmails = leadRepository.findExistingEmails(leads.stream().map(Lead::getEmail).toList())
+                .stream()
+                .map(LeadService::normalizeEmail)
+                .collect(Collectors.toSet());
+
+        List<Lead> newLeads = leads.stream()
+                .filter(lead -> !existingEmails.contains(normalizeEmail(lead.getEmail())))
+                .toList();
+        newLeads.forEach(lead -> lead.setUser(user));
+        leadRepository.saveAll(newLeads);
+
+        for (Lead lead : newLeads)
+            eventPublisher.publishEvent(new LeadChangedEvent(
+                    ChangeType.CREATED, lead.getId(), user.getId(), LeadResponseDTO.toLeadDto(lead)));
+        leadRepository.flush();
+        entityManager.clear();
+        return existingEmails;
     }
 
-    public Lead getLeadById(Long id, Long userId) {
-        AppUser user = userRepository.findById(userId).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("User with Id= %s not found", userId));
-                }
-        );
-        Lead lead = leadRepository.findById(id).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("Lead with Id= %s not found", id));
-                }
-        );
-        if (!user.getRole().equals(Role.ROLE_SELLER))
-            return lead;
-        else if (!lead.getUser().equals(user))
-            throw new EntityNotAvailableForViewException("This lead is not available for viewing by this user");
-        return lead;
+    /**
+     * Key under which two emails count as the same lead: trimmed and lower-cased. The unique index
+     * on {@code leads.email} only ignores case, through the column's collation, and does not trim:
+     * emails differing in surrounding spaces are only caught where this key is compared.
+     */
+    public static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeadResponseDTO> listAllLeads(Long afterId, int size){
+        return leadRepository.findPageAfter(afterId, Limit.of(size + 1));
+    }
+
+    /**
+     * Runs on the primary like {@link #getMyLeadsVersion}: the page goes out under the ETag read
+     * there, and one from a lagging replica would be cached by the client as that version.
+     */
+    public List<LeadResponseDTO> getMyLeads(Long id, Long afterId, int size) {
+        return leadRepository.findPageByUserAfter(id, afterId, Limit.of(size + 1));
+    }
+
+    /**
+     * Not read-only, so it runs on the primary: a lagging replica would answer 304 to a client that
+     * has just changed one of its leads.
+     */
+    public CollectionVersionDTO getMyLeadsVersion(Long id) {
+        return leadRepository.findVersionByOwner(id);
+    }
+
+    /**
+     * Filters leads by status, origin, owner and creation range. Sellers only ever see their own
+     * leads, whatever owner filter they send.
+     */
+    @Transactional(readOnly = true)
+    public Page<Lead> searchLeads(LeadSearchDTO filter, Long userId, Role role, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SEARCH_SORT_PROPERTIES.contains(order.getProperty()))
+                throw new InvalidSearchException(String.format(
+                        "Sorting by %s is not supported. Use one of %s", order.getProperty(), SEARCH_SORT_PROPERTIES));
+        }
+        if (filter.createdFrom() != null && filter.createdTo() != null && filter.createdFrom().isAfter(filter.createdTo()))
+            throw new InvalidSearchException("createdFrom must not be after createdTo");
+
+        Long ownerId = role.equals(Role.ROLE_SELLER) ? userId : filter.ownerId();
+        Specification<Lead> spec = Specification.where(LeadSpecifications.ownedBy(ownerId))
+                .and(LeadSpecifications.hasStatus(filter.status()))
+                .and(LeadSpecifications.hasOrigin(filter.origin()))
+                .and(LeadSpecifications.createdFrom(filter.createdFrom()))
+                .and(LeadSpecifications.createdUntil(filter.createdTo()));
+        return leadRepository.findAll(spec, pageable);
+    }
+
+    /**
+     * Loads the lead and its owner in one statement. For sellers the owner is part of the WHERE
+     * clause; only when nothing matches is a second lookup made to tell a missing lead from one that
+     * belongs to somebody else. Runs on the primary, for the reason given on {@link #getMyLeads}.
+     */
+    public Lead getLeadById(Long id, Long userId, Role role) {
+        if (!role.equals(Role.ROLE_SELLER))
+            return leadRepository.findWithOwnerById(id).orElseThrow(() -> leadNotFound(id));
+        return leadRepository.findByIdAndOwner(id, userId)
+                .orElseThrow(() -> leadNotFoundOrNotAvailable(id, "viewing"));
+    }
+
+    /**
+     * Version of the lead returned by {@link #getLeadById}, with the same access rules, read without
+     * loading the entity so conditional GETs can be answered before any work is done. Runs on the
+     * primary, for the reason given on {@link #getMyLeadsVersion}.
+     */
+    public EntityVersionDTO getLeadVersion(Long id, Long userId, Role role) {
+        if (!role.equals(Role.ROLE_SELLER))
+            return leadRepository.findVersionById(id).orElseThrow(() -> leadNotFound(id));
+        return leadRepository.findVersionByIdAndOwner(id, userId)
+                .orElseThrow(() -> leadNotFoundOrNotAvailable(id, "viewing"));
     }
 
+    /**
+     * Flushes the UPDATE before publishing the change, so the row lock is held before the outbox
+     * row gets its id: concurrent updates of a lead then get outbox ids in commit order.
+     */
     public Lead updateLead(Lead lead, Long id) {
-        AppUser user = userRepository.findById(id).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("User with Id= %s not found", id));
-                }
-        );
-        Lead leadSaved = leadRepository.findById(lead.getId()).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("Lead with Id= %s not found", lead.getId()));
-                }
-        );
+        Lead leadSaved = leadRepository.findByIdAndOwner(lead.getId(), id)
+                .orElseThrow(() -> leadNotFoundOrNotAvailable(lead.getId(), "updating"));
         leadSaved.setName(lead.getName());
         leadSaved.setEmail(lead.getEmail());
         leadSaved.setPhone(lead.getPhone());
         leadSaved.setOrigin(lead.getOrigin());
 
-        if (!leadSaved.getUser().equals(user))
-            throw new EntityNotAvailableForViewException("This lead is not available for updating by this user");
-        return leadRepository.save(leadSaved);
+        leadSaved = leadRepository.saveAndFlush(leadSaved);
+        eventPublisher.publishEvent(new LeadChangedEvent(
+                ChangeType.UPDATED, leadSaved.getId(), id, LeadResponseDTO.toLeadDto(leadSaved)));
+        return leadSaved;
+    }
+
+    /**
+     * Moves the given leads to {@code status} with a single UPDATE. The leads that will actually
+     * change are selected and row-locked first (sellers only get leads they own), so each one gets a
+     * {@link LeadStatusChangedEvent} with its previous status. Bulk updates bypass the auditing
+     * listener, so the audit columns are set here.
+     *
+     * @return how many leads actually changed
+     */
+    public int updateStatus(List<Long> ids, StatusLead status, Long userId, Role role) {
+        List<LeadStatusDTO> changes = role.equals(Role.ROLE_SELLER)
+                ? leadRepository.lockStatusChangesForOwner(ids, userId, status)
+                : leadRepository.lockStatusChanges(ids, status);
+        if (changes.isEmpty())
+            return 0;
+
+        String modifiedBy = auditorAware.getCurrentAuditor().orElseThrow();
+        int updated = leadRepository.updateStatus(
+                changes.stream().map(LeadStatusDTO::id).toList(), status, LocalDateTime.now(), modifiedBy);
+        for (LeadStatusDTO change : changes)
+            eventPublisher.publishEvent(new LeadStatusChangedEvent(change.id(), change.ownerId(), change.status(), status));
+        return updated;
     }
 
     public void deleteLead(Long id, Long userId) {
-        AppUser user = userRepository.findById(userId).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("User with Id= %s not found", userId));
-                }
-        );
-        Lead lead = leadRepository.findById(id).orElseThrow(
-                () ->  {
-                    throw new EntityNotFoundException(
-                            String.format("Lead with Id= %s not found", id));
-                }
-        );
-        if (!lead.getUser().equals(user))
-            throw new EntityNotAvailableForViewException("This lead is not available for deleting by this user");
-        leadRepository.delete(lead);
+        if (leadRepository.deleteByIdAndOwner(id, userId) == 0)
+            throw leadNotFoundOrNotAvailable(id, "deleting");
+        syncService.recordDeletion(RecordType.LEAD, id, userId);
+        eventPublisher.publishEvent(new LeadChangedEvent(ChangeType.DELETED, id, userId, null));
+    }
+
+    /**
+     * Streams every lead to the consumer inside a single read-only transaction. Rows are read as
+     * DTO projections, so nothing accumulates in the persistence context however large the table is.
+     */
+    @Transactional(readOnly = true)
+    public void exportLeads(Consumer<LeadResponseDTO> consumer) {
+        try (Stream<LeadResponseDTO> leads = leadRepository.streamAll()) {
+            leads.forEach(consumer);
+        }
+    }
+
+    /**
+     * Streams the leads modified at or after {@code since}, or every lead when it is null, like
+     * {@link #exportLeads}. Runs on the primary: a replica lagging behind could miss the latest
+     * changes the caller is catching up on.
+     */
+    @Transactional
+    public void exportLeadsModifiedSince(LocalDateTime since, Consumer<LeadResponseDTO> consumer) {
+        try (Stream<LeadResponseDTO> leads = since == null
+                ? leadRepository.streamAll() : leadRepository.streamModifiedSince(since)) {
+            leads.forEach(consumer);
+        }
+    }
+
+    private EntityNotFoundException leadNotFound(Long id) {
+        return new EntityNotFoundException(String.format("Lead with Id= %s not found", id));
+    }
+
+    private RuntimeException leadNotFoundOrNotAvailable(Long id, String action) {
+        if (!leadRepository.existsById(id))
+            return leadNotFound(id);
+        return new EntityNotAvailableForViewException(
+                String.format("This lead is not available for %s by this user", action));
     }
 }
@@ -0,0 +1,32 @@
+package tech.silva.connectcrm.services;
+
+import org.springframework.stereotype.Service;
+import tech.silva.connectcrm.dtos.search.SearchHitDTO;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.enums.SearchDocumentType;
+import tech.silva.connectcrm.search.CrmSearchIndex;
+
+import java.util.List;
+
+@Service
+public class SearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final CrmSearchIndex searchIndex;
+
+    public SearchService(CrmSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Same visibility rule as {@code getLeadById}/{@code getClientById}: sellers only find what they
+     * own, admins and managers find everything.
+     */
+    public List<SearchHitDTO> search(String text, SearchDocumentType type, Long userId, Role role, Integer limit) {
+        int boundedLimit = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        Long ownerId = role.equals(Role.ROLE_SELLER) ? userId : null;
+        return searchIndex.search(text, type, ownerId, boundedLimit);
+    }
+}
@@ -0,0 +1,123 @@
+package tech.silva.connectcrm.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.silva.connectcrm.dtos.sync.ClientChangeDTO;
+import tech.silva.connectcrm.dtos.sync.LeadChangeDTO;
+import tech.silva.connectcrm.dtos.sync.SyncChangesDTO;
+import tech.silva.connectcrm.dtos.sync.SyncPosition;
+import tech.silva.connectcrm.dtos.sync.SyncToken;
+import tech.silva.connectcrm.dtos.sync.TombstoneDTO;
+import tech.silva.connectcrm.enums.RecordType;
+import tech.silva.connectcrm.exceptions.SyncTokenExpiredException;
+import tech.silva.connectcrm.models.Tombstone;
+import tech.silva.connectcrm.repositories.IClientRepository;
+import tech.silva.connectcrm.repositories.ILeadRepository;
+import tech.silva.connectcrm.repositories.ITombstoneRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+@Service
+@Transactional
+public class SyncService {
+
+    private final ILeadRepository leadRepository;
+    private final IClientRepository clientRepository;
+    private final ITombstoneRepository tombstoneRepository;
+    private final Duration settleTime;
+    private final Duration tombstoneRetention;
+
+    public SyncService(ILeadRepository leadRepository, IClientRepository clientRepository,
+                       ITombstoneRepository tombstoneRepository,
+                       @Value("${connectcrm.sync.settle-time}") Duration settleTime,
+                       @Value("${connectcrm.sync.tombstone-retention}") Duration tombstoneRetention) {
+        this.leadRepository = leadRepository;
+        this.clientRepository = clientRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.settleTime = settleTime;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Records a deletion in the caller's transaction, so the tombstone exists exactly when the
+     * row is gone.
+     */
+    public void recordDeletion(RecordType type, Long recordId, Long ownerId) {
+        tombstoneRepository.save(new Tombstone(type, recordId, ownerId, LocalDateTime.now()));
+    }
+
+    /**
+     * Leads, clients and deletions of the owner changed after {@code token}, at most {@code size}
+     * of each, in {@code (modifiedAt, id)} order. Rows younger than the settle time are held back
+     * until the next call: a transaction that stamped {@code modifiedAt} earlier may still be
+     * committing, and reading past it would skip its rows for good.
+     * <p>
+     * Not read-only, so it runs on the primary: a replica lagging by more than the settle time
+     * would hand out a token past rows it has not received yet.
+     */
+    public SyncChangesDTO changesSince(String token, Long ownerId, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(settleTime);
+
+        SyncToken since;
+        if (token == null || token.isBlank()) {
+            since = SyncToken.initial(until);
+        } else {
+            since = SyncToken.decode(token);
+            if (since.deletions().at().isBefore(now.minus(tombstoneRetention)))
+                throw new SyncTokenExpiredException("Sync token is older than the deletion history. Run a full sync");
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<LeadChangeDTO> leads = leadRepository.findChangesByOwner(
+                ownerId, since.leads().at(), since.leads().id(), until, limit);
+        List<ClientChangeDTO> clients = clientRepository.findChangesByOwner(
+                ownerId, since.clients().at(), since.clients().id(), until, limit);
+        List<TombstoneDTO> deleted = tombstoneRepository.findChangesByOwner(
+                ownerId, since.deletions().at(), since.deletions().id(), until, limit);
+
+        boolean hasMore = leads.size() > size || clients.size() > size || deleted.size() > size;
+        leads = leads.subList(0, Math.min(size, leads.size()));
+        clients = clients.subList(0, Math.min(size, clients.size()));
+        deleted = deleted.subList(0, Math.min(size, deleted.size()));
+
+        SyncToken next = new SyncToken(
+                advance(leads, size, until, change -> new SyncPosition(change.modifiedAt(), change.lead().id())),
+                advance(clients, size, until, change -> new SyncPosition(change.modifiedAt(), change.client().id())),
+                advance(deleted, size, until, tombstone -> new SyncPosition(tombstone.deletedAt(), tombstone.tombstoneId())));
+        return new SyncChangesDTO(leads, clients, deleted, next.encode(), hasMore);
+    }
+
+    /**
+     * Deletions of every owner at or after {@code since}, oldest first, read on the primary.
+     */
+    public List<TombstoneDTO> deletionsSince(LocalDateTime since) {
+        return tombstoneRepository.findDeletedSince(since);
+    }
+
+    /**
+     * Drops tombstones past the retention window. Tokens older than that are rejected, so no
+     * client can still need them.
+     */
+    @Scheduled(cron = "${connectcrm.sync.purge-cron}")
+    public void purgeTombstones() {
+        tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    /**
+     * A full page resumes after its last row; a partial page means the stream was read up to
+     * {@code until}, so the position jumps there and quiet streams never fall behind.
+     */
+    private static <T> SyncPosition advance(List<T> rows, int size, LocalDateTime until,
+                                            Function<T, SyncPosition> position) {
+        if (rows.size() < size)
+            return SyncPosition.endOf(until);
+        return position.apply(rows.get(rows.size() - 1));
+    }
+}
@@ -1,6 +1,8 @@
 package tech.silva.connectcrm.services;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +16,7 @@ import java.util.List;
 
 @Service
 @Transactional
+@Timed(value = "connectcrm.service", histogram = true)
 public class UserService {
 
     private final IUserRepository userRepository;
@@ -24,7 +27,10 @@ public class UserService {
         this.passwordEncoder = passwordEncoder;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Login and token checks, so not read-only: they run on the primary and a user deleted or
+     * demoted a moment ago is not let in by a lagging replica.
+     */
     public AppUser findByEmail(String username) {
         return userRepository.findByEmail(username)
                 .orElseThrow(() -> {
@@ -32,17 +38,24 @@ public class UserService {
                 });
     }
 
-    @Transactional(readOnly = true)
     public Role findRoleByEmail(String username) {
         AppUser user = findByEmail(username);
         return user.getRole();
     }
 
+    /**
+     * Inserts straight away and lets the unique index on {@code email} reject duplicates, so a
+     * concurrent registration of the same email cannot slip in between a check and the insert.
+     */
     public AppUser saveUser(AppUser user){
-        if(userRepository.findByEmail(user.getEmail()).isPresent())
-            throw new UniqueUserViolationException(String.format("User with email: %s already registered. Try again!", user.getEmail()));
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (!UniqueUserViolationException.isUniqueViolation(ex))
+                throw ex;
+            throw new UniqueUserViolationException(String.format("User with email: %s already registered. Try again!", user.getEmail()));
+        }
     }
 
     @Transactional(readOnly = true)
@@ -50,7 +63,9 @@ public class UserService {
         return userRepository.findAll();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Runs on the primary, like {@link #findByEmail}: JWT revalidation reads the user through it.
+     */
     public AppUser findById(Long id){
         return userRepository.findById(id).orElseThrow(
                 () ->  {
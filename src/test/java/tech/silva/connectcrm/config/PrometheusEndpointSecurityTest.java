@@ -0,0 +1,62 @@
+package tech.silva.connectcrm.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.jwt.JwtUtils;
+import tech.silva.connectcrm.models.AppUser;
+import tech.silva.connectcrm.repositories.IUserRepository;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "connectcrm.metrics.scrape-password={noop}scrape-secret")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("h2")
+class PrometheusEndpointSecurityTest {
+
+    private static final String PROMETHEUS = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private IUserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void anonymousScrapesAreRejected() throws Exception {
+        mvc.perform(get(PROMETHEUS)).andExpect(status().isUnauthorized());
+        mvc.perform(get(PROMETHEUS).with(httpBasic("prometheus", "wrong"))).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void theScraperCredentialsAreAccepted() throws Exception {
+        mvc.perform(get(PROMETHEUS).with(httpBasic("prometheus", "scrape-secret"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void onlyAdminTokensAreAccepted() throws Exception {
+        mvc.perform(get(PROMETHEUS).header(JwtUtils.JWT_AUTHORIZATION, bearer(user("seller@metrics.test", Role.ROLE_SELLER))))
+                .andExpect(status().isForbidden());
+        mvc.perform(get(PROMETHEUS).header(JwtUtils.JWT_AUTHORIZATION, bearer(user("admin@metrics.test", Role.ROLE_ADMIN))))
+                .andExpect(status().isOk());
+    }
+
+    private AppUser user(String email, Role role) {
+        return userRepository.save(new AppUser(null, "Metrics", email, passwordEncoder.encode("123456"), role));
+    }
+
+    private static String bearer(AppUser user) {
+        return JwtUtils.JWT_BEARER + JwtUtils.createToken(user.getId(), user.getEmail(),
+                user.getRole().name().substring("ROLE_".length())).getToken();
+    }
+}
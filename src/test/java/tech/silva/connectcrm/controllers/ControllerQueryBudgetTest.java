@@ -0,0 +1,244 @@
+package tech.silva.connectcrm.controllers;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.jwt.JwtUtils;
+import tech.silva.connectcrm.models.AppUser;
+import tech.silva.connectcrm.querycount.QueryCount;
+import tech.silva.connectcrm.querycount.QueryCountConfig;
+import tech.silva.connectcrm.querycount.QueryCounter;
+import tech.silva.connectcrm.repositories.IUserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each endpoint of {@link LeadController},
+ * {@link ClientController} and {@link UserController} issues. Every seller owns
+ * {@value #ROWS_PER_SELLER} leads and clients and list calls return all of them, so a per-row
+ * lazy load (N+1) shows up as a dozen extra selects.
+ * <p>
+ * Caches are evicted right before each measured request: the budgets are for a cold second-level cache. When a
+ * change legitimately alters a count, update the budget in the same commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@Import(QueryCountConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ControllerQueryBudgetTest {
+
+    private static final int ROWS_PER_SELLER = 12;
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private IUserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AppUser seller;
+    private AppUser admin;
+    private final List<Long> sellerLeads = new ArrayList<>();
+    private final List<Long> sellerClients = new ArrayList<>();
+
+    @BeforeAll
+    void seed() throws Exception {
+        seller = user(Role.ROLE_SELLER);
+        AppUser otherSeller = user(Role.ROLE_SELLER);
+        admin = user(Role.ROLE_ADMIN);
+        for (int i = 0; i < ROWS_PER_SELLER; i++) {
+            sellerLeads.add(createLead(seller));
+            sellerClients.add(createClient(seller));
+            createLead(otherSeller);
+            createClient(otherSeller);
+        }
+    }
+
+    // LeadController
+
+    @Test
+    void createLead() throws Exception {
+        assertBudget(post("/api/v1/leads").contentType(MediaType.APPLICATION_JSON).content(leadJson(null)),
+                seller, status().isCreated(), QueryCount.selects(1).inserts(2));
+    }
+
+    @Test
+    void ingestLead() throws Exception {
+        assertBudget(post("/api/v1/leads/ingest").contentType(MediaType.APPLICATION_JSON).content(leadJson(null)),
+                seller, status().isAccepted(), QueryCount.NONE.inserts(1));
+    }
+
+    @Test
+    void listAllLeads() throws Exception {
+        assertBudget(get("/api/v1/leads?size=100"), admin, status().isOk(), QueryCount.selects(1));
+    }
+
+    @Test
+    void getMyLeads() throws Exception {
+        assertBudget(get("/api/v1/leads/me?size=100"), seller, status().isOk(), QueryCount.selects(2));
+    }
+
+    @Test
+    void searchLeads() throws Exception {
+        assertBudget(get("/api/v1/leads/search?status=NEW&size=100"), admin, status().isOk(), QueryCount.selects(1));
+    }
+
+    @Test
+    void getLeadById() throws Exception {
+        assertBudget(get("/api/v1/leads/" + sellerLeads.get(0)), seller, status().isOk(), QueryCount.selects(2));
+    }
+
+    @Test
+    void updateLead() throws Exception {
+        assertBudget(put("/api/v1/leads").contentType(MediaType.APPLICATION_JSON).content(leadJson(sellerLeads.get(1))),
+                seller, status().isOk(), QueryCount.selects(1).updates(1).inserts(1));
+    }
+
+    /**
+     * The outbox rows of all changed leads go out as one JDBC batch.
+     */
+    @Test
+    void updateLeadStatus() throws Exception {
+        String body = String.format("{\"ids\":%s,\"status\":\"QUALIFIED\"}", sellerLeads);
+        assertBudget(patch("/api/v1/leads/status").contentType(MediaType.APPLICATION_JSON).content(body),
+                seller, status().isOk(), QueryCount.selects(1).updates(1).inserts(1));
+    }
+
+    @Test
+    void deleteLead() throws Exception {
+        Long id = createLead(seller);
+        assertBudget(delete("/api/v1/leads/" + id), seller, status().isOk(), QueryCount.NONE.deletes(1).inserts(2));
+    }
+
+    // ClientController
+
+    @Test
+    void createClient() throws Exception {
+        assertBudget(post("/api/v1/clients").contentType(MediaType.APPLICATION_JSON).content(clientJson(null)),
+                seller, status().isCreated(), QueryCount.selects(1).inserts(2));
+    }
+
+    @Test
+    void listAllClients() throws Exception {
+        assertBudget(get("/api/v1/clients?size=100"), admin, status().isOk(), QueryCount.selects(1));
+    }
+
+    @Test
+    void getMyClients() throws Exception {
+        assertBudget(get("/api/v1/clients/me?size=100"), seller, status().isOk(), QueryCount.selects(2));
+    }
+
+    @Test
+    void getClientById() throws Exception {
+        assertBudget(get("/api/v1/clients/" + sellerClients.get(0)), seller, status().isOk(), QueryCount.selects(2));
+    }
+
+    @Test
+    void updateClient() throws Exception {
+        assertBudget(put("/api/v1/clients").contentType(MediaType.APPLICATION_JSON).content(clientJson(sellerClients.get(1))),
+                seller, status().isOk(), QueryCount.selects(1).updates(1).inserts(1));
+    }
+
+    @Test
+    void deleteClient() throws Exception {
+        Long id = createClient(seller);
+        assertBudget(delete("/api/v1/clients/" + id), seller, status().isOk(), QueryCount.NONE.deletes(1).inserts(2));
+    }
+
+    // UserController
+
+    @Test
+    void listAllUsers() throws Exception {
+        assertBudget(get("/api/v1/users"), admin, status().isOk(), QueryCount.selects(1));
+    }
+
+    @Test
+    void getUserById() throws Exception {
+        assertBudget(get("/api/v1/users/" + seller.getId()), admin, status().isOk(), QueryCount.selects(1));
+    }
+
+    @Test
+    void updateUser() throws Exception {
+        AppUser user = user(Role.ROLE_SELLER);
+        String body = String.format("{\"id\":%d,\"name\":\"Renamed\",\"password\":\"654321\"}", user.getId());
+        assertBudget(put("/api/v1/users").contentType(MediaType.APPLICATION_JSON).content(body),
+                admin, status().isOk(), QueryCount.selects(1).updates(1));
+    }
+
+    @Test
+    void deleteUser() throws Exception {
+        AppUser user = user(Role.ROLE_SELLER);
+        assertBudget(delete("/api/v1/users/" + user.getId()), admin, status().isOk(), QueryCount.selects(1).deletes(1));
+    }
+
+    private void assertBudget(MockHttpServletRequestBuilder request, AppUser user, ResultMatcher expectedStatus,
+                              QueryCount budget) throws Exception {
+        RequestBuilder authenticated = request.header(JwtUtils.JWT_AUTHORIZATION, bearer(user));
+        entityManagerFactory.getCache().evictAll();
+        QueryCounter.reset();
+        mvc.perform(authenticated).andExpect(expectedStatus);
+        QueryCounter.assertCount(budget);
+    }
+
+    private AppUser user(Role role) {
+        String email = UUID.randomUUID() + "@budget.test";
+        return userRepository.save(new AppUser(null, "Budget " + role, email, passwordEncoder.encode("123456"), role));
+    }
+
+    private Long createLead(AppUser owner) throws Exception {
+        return createdId(post("/api/v1/leads").contentType(MediaType.APPLICATION_JSON).content(leadJson(null)), owner);
+    }
+
+    private Long createClient(AppUser owner) throws Exception {
+        return createdId(post("/api/v1/clients").contentType(MediaType.APPLICATION_JSON).content(clientJson(null)), owner);
+    }
+
+    private Long createdId(MockHttpServletRequestBuilder request, AppUser owner) throws Exception {
+        String body = mvc.perform(request.header(JwtUtils.JWT_AUTHORIZATION, bearer(owner)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.parse(body).read("$.id", Long.class);
+    }
+
+    private static String leadJson(Long id) {
+        return String.format("{%s\"name\":\"Lead\",\"email\":\"%s@budget.test\",\"phone\":\"11999999999\",\"origin\":\"site\"}",
+                id == null ? "" : "\"id\":" + id + ",", UUID.randomUUID());
+    }
+
+    private static String clientJson(Long id) {
+        return String.format("{%s\"name\":\"Client %s\",\"email\":\"%s@budget.test\",\"phone\":\"11999999999\"," +
+                        "\"document\":\"12345678901\",\"address\":\"Rua 1\"}",
+                id == null ? "" : "\"id\":" + id + ",", UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    private static String bearer(AppUser user) {
+        String role = user.getRole().name().substring("ROLE_".length());
+        return JwtUtils.JWT_BEARER + JwtUtils.createToken(user.getId(), user.getEmail(), role).getToken();
+    }
+}
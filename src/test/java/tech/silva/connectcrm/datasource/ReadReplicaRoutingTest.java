@@ -0,0 +1,96 @@
+package tech.silva.connectcrm.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.dtos.sync.LeadChangeDTO;
+import tech.silva.connectcrm.models.AppUser;
+import tech.silva.connectcrm.services.SyncService;
+import tech.silva.connectcrm.services.UserService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routing between two embedded databases: the primary created by Hibernate and a replica that
+ * gets the same schema but its own rows, so every read shows where it was served from.
+ */
+@SpringBootTest(properties = "connectcrm.datasource.replica-urls=" + ReadReplicaRoutingTest.REPLICA_URL)
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final String INSERT_USER = "INSERT INTO users (id, name, email, password, role) VALUES (?, ?, ?, ?, 'ROLE_SELLER')";
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private SyncService syncService;
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeAll
+    void copySchemaToReplica() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        primary.queryForList("SCRIPT NODATA", String.class).forEach(replica::execute);
+
+        primary.update(INSERT_USER, 1_000_001L, "Primary", "primary-only@routing.test", "x");
+        replica.update(INSERT_USER, 1_000_002L, "Replica", "replica-only@routing.test", "x");
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        List<String> emails = userService.listAllUsers().stream().map(AppUser::getEmail).toList();
+
+        assertTrue(emails.contains("replica-only@routing.test"), emails::toString);
+        assertTrue(!emails.contains("primary-only@routing.test"), emails::toString);
+    }
+
+    @Test
+    void writesUseThePrimary() {
+        userService.saveUser(new AppUser("Written", "written@routing.test", "123456"));
+
+        String count = "SELECT COUNT(*) FROM users WHERE email = 'written@routing.test'";
+        assertEquals(1, primary.queryForObject(count, Integer.class));
+        assertEquals(0, replica.queryForObject(count, Integer.class));
+    }
+
+    @Test
+    void userLookupsReadThePrimary() {
+        assertEquals(1_000_001L, userService.findByEmail("primary-only@routing.test").getId());
+        assertEquals("primary-only@routing.test", userService.findById(1_000_001L).getEmail());
+    }
+
+    @Test
+    void syncReadsThePrimary() {
+        // committed on the primary a minute ago, past the settle time, and not replicated yet
+        LocalDateTime minuteAgo = LocalDateTime.now().minusMinutes(1);
+        primary.update("INSERT INTO leads (id, name, email, phone, origin, status, user_id, created_at, modified_at, " +
+                        "created_by, modified_by) VALUES (?, 'Lagging', 'lagging@routing.test', '11999999999', 'ads', " +
+                        "'NEW', ?, ?, ?, 'x', 'x')",
+                1_000_001L, 1_000_001L, minuteAgo, minuteAgo);
+
+        List<String> synced = syncService.changesSince(null, 1_000_001L, 10).leads().stream()
+                .map(LeadChangeDTO::lead)
+                .map(LeadResponseDTO::email)
+                .toList();
+
+        assertEquals(List.of("lagging@routing.test"), synced);
+    }
+}
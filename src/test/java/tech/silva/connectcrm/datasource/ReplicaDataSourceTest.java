@@ -0,0 +1,84 @@
+package tech.silva.connectcrm.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.silva.connectcrm.enums.ReplicaSelection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Replica selection and fallback on plain H2 databases, without a Spring context.
+ */
+class ReplicaDataSourceTest {
+
+    private static final String DOWN = "jdbc:h2:tcp://localhost:1/down";
+
+    private ReplicaDataSource replicas;
+
+    @AfterEach
+    void close() {
+        replicas.close();
+    }
+
+    @Test
+    void roundRobinAlternatesReplicas() throws SQLException {
+        replicas = replicas(ReplicaSelection.ROUND_ROBIN, url("a"), url("b"));
+        assertEquals(List.of("a", "b", "a", "b"),
+                List.of(database(replicas), database(replicas), database(replicas), database(replicas)));
+    }
+
+    @Test
+    void leastLoadedPicksReplicaWithFewestConnectionsInUse() throws SQLException {
+        replicas = replicas(ReplicaSelection.LEAST_LOADED, url("a"), url("b"));
+        try (Connection busy = replicas.getConnection()) {
+            String busyDatabase = name(busy);
+            for (int i = 0; i < 3; i++)
+                assertEquals(busyDatabase.equals("a") ? "b" : "a", database(replicas));
+        }
+    }
+
+    @Test
+    void unavailableReplicaIsSkipped() throws SQLException {
+        replicas = replicas(ReplicaSelection.ROUND_ROBIN, DOWN, url("b"));
+        assertEquals(List.of("b", "b", "b"), List.of(database(replicas), database(replicas), database(replicas)));
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsAvailable() throws SQLException {
+        replicas = replicas(ReplicaSelection.ROUND_ROBIN, DOWN);
+        assertEquals("primary", database(replicas));
+    }
+
+    private static ReplicaDataSource replicas(ReplicaSelection selection, String... urls) {
+        HikariConfig template = new HikariConfig();
+        template.setUsername("sa");
+        template.setPassword("");
+        template.setMaximumPoolSize(2);
+        JdbcDataSource primary = new JdbcDataSource();
+        primary.setURL(url("primary"));
+        primary.setUser("sa");
+        return new ReplicaDataSource(template, List.of(urls), primary, selection,
+                Duration.ofMillis(500), Duration.ofMinutes(1), null);
+    }
+
+    private static String url(String database) {
+        return "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private static String database(ReplicaDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return name(connection);
+        }
+    }
+
+    private static String name(Connection connection) throws SQLException {
+        return connection.getCatalog().toLowerCase();
+    }
+}
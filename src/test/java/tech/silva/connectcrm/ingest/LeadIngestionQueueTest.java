@@ -0,0 +1,153 @@
+package tech.silva.connectcrm.ingest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import tech.silva.connectcrm.dtos.lead.LeadCreateDTO;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.models.AppUser;
+import tech.silva.connectcrm.repositories.IUserRepository;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Drives {@link LeadIngestionQueue#writeBatch} by hand; the scheduled writer is switched off so it
+ * does not drain the queue under the test.
+ */
+@SpringBootTest(properties = {"connectcrm.ingest.writer.enabled=false", "connectcrm.ingest.max-attempts=2"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LeadIngestionQueueTest {
+
+    @Autowired
+    private LeadIngestionQueue queue;
+    @Autowired
+    private IUserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long ownerId;
+
+    @BeforeAll
+    void createOwner() {
+        ownerId = userRepository.save(new AppUser(null, "Owner", "owner@ingest.test", "x", Role.ROLE_SELLER)).getId();
+    }
+
+    @BeforeEach
+    void emptyQueue() {
+        jdbcTemplate.update("DELETE FROM lead_ingestion_queue");
+    }
+
+    @AfterEach
+    void dropRejectingConstraint() {
+        jdbcTemplate.execute("ALTER TABLE leads DROP CONSTRAINT IF EXISTS ck_ingest_test_rejected");
+    }
+
+    @Test
+    void queuedLeadsAreWrittenOnceByEmail() {
+        enqueue("registered@ingest.test");
+        assertEquals(new LeadIngestionQueue.BatchResult(1, 1, 0, 0, 0, 0), queue.writeBatch(10));
+
+        enqueue("first@ingest.test");
+        enqueue("second@ingest.test");
+        enqueue("first@ingest.test");
+        enqueue("registered@ingest.test");
+
+        assertEquals(new LeadIngestionQueue.BatchResult(4, 2, 2, 0, 0, 0), queue.writeBatch(10));
+        assertEquals(0, queue.depth());
+        Map<String, Object> lead = jdbcTemplate.queryForMap(
+                "SELECT user_id, created_by, modified_by FROM leads WHERE email = 'first@ingest.test'");
+        assertEquals(ownerId, ((Number) lead.get("user_id")).longValue());
+        assertEquals("owner@ingest.test", lead.get("created_by"));
+        assertEquals("owner@ingest.test", lead.get("modified_by"));
+    }
+
+    @Test
+    void batchesTakeTheOldestLeadsFirst() {
+        enqueue("oldest@ingest.test");
+        enqueue("older@ingest.test");
+        enqueue("newest@ingest.test");
+
+        assertEquals(new LeadIngestionQueue.BatchResult(2, 2, 0, 0, 0, 0), queue.writeBatch(2));
+        assertEquals(1, queue.depth());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM leads WHERE email = 'newest@ingest.test'", Integer.class));
+
+        assertEquals(new LeadIngestionQueue.BatchResult(1, 1, 0, 0, 0, 0), queue.writeBatch(2));
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    void emailsDifferingOnlyInCaseOrSpacesAreOneLead() {
+        enqueue("Mixed@Ingest.test");
+        enqueue(" mixed@ingest.test ");
+        enqueue("MIXED@INGEST.TEST");
+
+        assertEquals(new LeadIngestionQueue.BatchResult(3, 1, 2, 0, 0, 0), queue.writeBatch(10));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM leads WHERE email = 'mixed@ingest.test'", Integer.class));
+
+        enqueue("mixed@INGEST.test");
+        assertEquals(new LeadIngestionQueue.BatchResult(1, 0, 1, 0, 0, 0), queue.writeBatch(10));
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    void rejectedLeadsAreRetriedAloneAndParked() {
+        jdbcTemplate.execute("ALTER TABLE leads ADD CONSTRAINT ck_ingest_test_rejected CHECK (name <> 'Rejected')");
+        enqueue("before@ingest.test");
+        queue.enqueue(new LeadCreateDTO("Rejected", "rejected@ingest.test", "11999999999", "ads"),
+                ownerId, "owner@ingest.test");
+        enqueue("after@ingest.test");
+
+        assertEquals(new LeadIngestionQueue.BatchResult(3, 2, 0, 0, 1, 0), queue.writeBatch(10));
+        assertEquals(1, queue.depth());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM leads WHERE email IN ('before@ingest.test', 'after@ingest.test')",
+                Integer.class));
+
+        enqueue("next@ingest.test");
+        assertEquals(new LeadIngestionQueue.BatchResult(2, 1, 0, 0, 0, 1), queue.writeBatch(10));
+        assertEquals(0, queue.depth());
+        Map<String, Object> parked = jdbcTemplate.queryForMap(
+                "SELECT attempts, last_error, parked_at FROM lead_ingestion_queue");
+        assertEquals(2, ((Number) parked.get("attempts")).intValue());
+        assertNotNull(parked.get("last_error"));
+        assertNotNull(parked.get("parked_at"));
+        assertEquals(new LeadIngestionQueue.BatchResult(0, 0, 0, 0, 0, 0), queue.writeBatch(10));
+    }
+
+    @Test
+    void retriedLeadsComeAfterFreshOnes() {
+        jdbcTemplate.execute("ALTER TABLE leads ADD CONSTRAINT ck_ingest_test_rejected CHECK (name <> 'Rejected')");
+        queue.enqueue(new LeadCreateDTO("Rejected", "rejected@ingest.test", "11999999999", "ads"),
+                ownerId, "owner@ingest.test");
+        assertEquals(new LeadIngestionQueue.BatchResult(1, 0, 0, 0, 1, 0), queue.writeBatch(2));
+
+        enqueue("fresh@ingest.test");
+        enqueue("fresher@ingest.test");
+        assertEquals(new LeadIngestionQueue.BatchResult(2, 2, 0, 0, 0, 0), queue.writeBatch(2));
+        assertEquals(1, queue.depth());
+    }
+
+    @Test
+    void leadsOfAnOwnerThatIsGoneAreDropped() {
+        queue.enqueue(new LeadCreateDTO("Lead", "orphan@ingest.test", "11999999999", "ads"), 999_999L, "gone@ingest.test");
+
+        assertEquals(new LeadIngestionQueue.BatchResult(1, 0, 0, 1, 0, 0), queue.writeBatch(10));
+        assertEquals(0, queue.depth());
+    }
+
+    private void enqueue(String email) {
+        queue.enqueue(new LeadCreateDTO("Lead", email, "11999999999", "ads"), ownerId, "owner@ingest.test");
+    }
+}
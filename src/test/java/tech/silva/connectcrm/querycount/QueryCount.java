@@ -0,0 +1,40 @@
+package tech.silva.connectcrm.querycount;
+
+/**
+ * Number of statements of each kind sent to the database. Used both as the measured count and
+ * as the budget a test pins, e.g. {@code QueryCount.selects(2).inserts(1)}.
+ */
+public record QueryCount(int selects, int inserts, int updates, int deletes, int others) {
+
+    public static final QueryCount NONE = new QueryCount(0, 0, 0, 0, 0);
+
+    public static QueryCount selects(int selects) {
+        return new QueryCount(selects, 0, 0, 0, 0);
+    }
+
+    public QueryCount inserts(int inserts) {
+        return new QueryCount(selects, inserts, updates, deletes, others);
+    }
+
+    public QueryCount updates(int updates) {
+        return new QueryCount(selects, inserts, updates, deletes, others);
+    }
+
+    public QueryCount deletes(int deletes) {
+        return new QueryCount(selects, inserts, updates, deletes, others);
+    }
+
+    public QueryCount others(int others) {
+        return new QueryCount(selects, inserts, updates, deletes, others);
+    }
+
+    public int total() {
+        return selects + inserts + updates + deletes + others;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("select=%d, insert=%d, update=%d, delete=%d, other=%d",
+                selects, inserts, updates, deletes, others);
+    }
+}
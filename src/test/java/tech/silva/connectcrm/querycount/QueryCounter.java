@@ -0,0 +1,71 @@
+package tech.silva.connectcrm.querycount;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Records the SQL statements executed on the current thread. MockMvc runs the whole request,
+ * after-commit listeners included, on the test thread, while scheduled jobs (outbox relay,
+ * search commits) run on their own threads and never show up in a test's count.
+ * <p>
+ * A JDBC batch counts once, as one round trip. Sequence fetches are not counted: the pooled id
+ * generators hit the database once per 50 inserts, so whether a request pays for one depends
+ * on what ran before it.
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    private static final String SEQUENCE_FETCH = "select next value for ";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .filter(sql -> !isSequenceFetch(sql))
+                .forEach(STATEMENTS.get()::add);
+    }
+
+    private static boolean isSequenceFetch(String sql) {
+        return sql.regionMatches(true, 0, SEQUENCE_FETCH, 0, SEQUENCE_FETCH.length());
+    }
+
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    public static QueryCount current() {
+        int[] counts = new int[QueryType.values().length];
+        STATEMENTS.get().forEach(sql -> counts[QueryUtils.getQueryType(sql).ordinal()]++);
+        return new QueryCount(counts[QueryType.SELECT.ordinal()], counts[QueryType.INSERT.ordinal()],
+                counts[QueryType.UPDATE.ordinal()], counts[QueryType.DELETE.ordinal()], counts[QueryType.OTHER.ordinal()]);
+    }
+
+    /**
+     * Fails unless exactly the expected statements ran since the last {@link #reset()}. Fewer
+     * statements fail too, so an improvement lowers the pinned budget instead of hiding the next
+     * regression.
+     */
+    public static void assertCount(QueryCount expected) {
+        QueryCount actual = current();
+        if (!actual.equals(expected))
+            fail(String.format("Expected %s but got %s:%n  %s",
+                    expected, actual, String.join(System.lineSeparator() + "  ", STATEMENTS.get())));
+    }
+}
@@ -0,0 +1,81 @@
+package tech.silva.connectcrm.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tech.silva.connectcrm.dtos.lead.LeadResponseDTO;
+import tech.silva.connectcrm.dtos.search.SearchHitDTO;
+import tech.silva.connectcrm.dtos.user.UserResponseDTO;
+import tech.silva.connectcrm.enums.DomainEventType;
+import tech.silva.connectcrm.enums.RecordType;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.enums.SearchDocumentType;
+import tech.silva.connectcrm.enums.StatusLead;
+import tech.silva.connectcrm.models.OutboxEvent;
+import tech.silva.connectcrm.repositories.IOutboxEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The index tails the outbox, so a change that only left an outbox row behind, as writes of other
+ * instances and of the reactive application do, still reaches search. Rows this instance wrote
+ * itself are left to its after-commit listeners.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class CrmSearchIndexTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+    private static final String OTHER_INSTANCE = "connect-crm-reactive@test";
+
+    @Autowired
+    private CrmSearchIndex searchIndex;
+    @Autowired
+    private IOutboxEventRepository outboxRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Value("${connectcrm.instance-id}")
+    private String instanceId;
+
+    @Test
+    void changesOfOtherInstancesAreIndexed() throws Exception {
+        UserResponseDTO owner = new UserResponseDTO(42L, "Owner", "owner@outbox.test", Role.ROLE_SELLER);
+        LeadResponseDTO own = new LeadResponseDTO(9_000_001L, "Yucatan Outbox", "yucatan@outbox.test",
+                "11999999998", "ads", StatusLead.NEW, owner);
+        LeadResponseDTO remote = new LeadResponseDTO(9_000_002L, "Zanzibar Outbox", "zanzibar@outbox.test",
+                "11999999999", "ads", StatusLead.NEW, owner);
+
+        outboxRepository.save(new OutboxEvent(RecordType.LEAD, own.id(), DomainEventType.LEAD_CREATED, 42L,
+                objectMapper.writeValueAsString(own), LocalDateTime.now(), instanceId));
+        outboxRepository.save(new OutboxEvent(RecordType.LEAD, remote.id(), DomainEventType.LEAD_CREATED, 42L,
+                objectMapper.writeValueAsString(remote), LocalDateTime.now(), OTHER_INSTANCE));
+        assertEquals(List.of(remote.id()), awaitHits("zanzibar", 1));
+        assertEquals(List.of(), hits("yucatan"));
+
+        outboxRepository.save(new OutboxEvent(RecordType.LEAD, remote.id(), DomainEventType.LEAD_DELETED, 42L,
+                null, LocalDateTime.now(), OTHER_INSTANCE));
+        assertEquals(List.of(), awaitHits("zanzibar", 0));
+    }
+
+    private List<Long> awaitHits(String text, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        List<Long> ids;
+        do {
+            ids = hits(text);
+            if (ids.size() == expected)
+                return ids;
+            Thread.sleep(100);
+        } while (System.currentTimeMillis() < deadline);
+        return ids;
+    }
+
+    private List<Long> hits(String text) {
+        return searchIndex.search(text, SearchDocumentType.LEAD, null, 10).stream().map(SearchHitDTO::id).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package tech.silva.connectcrm.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import tech.silva.connectcrm.dtos.lead.LeadImportErrorDTO;
+import tech.silva.connectcrm.dtos.lead.LeadImportResultDTO;
+import tech.silva.connectcrm.enums.Role;
+import tech.silva.connectcrm.models.AppUser;
+import tech.silva.connectcrm.models.Lead;
+import tech.silva.connectcrm.repositories.IUserRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LeadImportServiceTest {
+
+    @Autowired
+    private LeadImportService leadImportService;
+    @Autowired
+    private LeadService leadService;
+    @Autowired
+    private IUserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeAll
+    void createOwner() {
+        ownerId = userRepository.save(new AppUser(null, "Owner", "owner@import.test", "x", Role.ROLE_SELLER)).getId();
+    }
+
+    @BeforeEach
+    void signIn() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("owner@import.test", null, List.of()));
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void registeredEmailsAreRejectedWhateverTheirCasing() throws IOException {
+        leadService.saveLeads(List.of(new Lead("Registered", "Registered@Import.Test", "11999999999", "ads")), ownerId);
+
+        LeadImportResultDTO result = importCsv("""
+                name,email,phone,origin
+                Again,registered@import.test,11999999999,ads
+                Fresh,fresh@import.test,11999999999,ads
+                """);
+
+        assertEquals(1, result.imported());
+        assertEquals(List.of(new LeadImportErrorDTO(2, "registered@import.test",
+                "Lead with email: registered@import.test already registered")), result.errors());
+    }
+
+    @Test
+    void aChunkTheDatabaseRejectsIsSavedRowByRow() throws IOException {
+        LeadImportResultDTO result = importCsv("""
+                name,email,phone,origin
+                First,first@import.test,11999999999,ads
+                %s,too-long@import.test,11999999999,ads
+                Last,last@import.test,11999999999,ads
+                """.formatted("x".repeat(300)));
+
+        assertEquals(2, result.imported());
+        assertEquals(1, result.rejected());
+        assertEquals(3, result.errors().get(0).line());
+        assertTrue(result.errors().get(0).message().startsWith("Rejected by the database"));
+    }
+
+    private LeadImportResultDTO importCsv(String csv) throws IOException {
+        return leadImportService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ownerId);
+    }
+}
@@ -0,0 +1,125 @@
+package tech.silva.connectcrm.services;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import tech.silva.connectcrm.exceptions.UniqueUserViolationException;
+import tech.silva.connectcrm.models.AppUser;
+import tech.silva.connectcrm.models.Client;
+import tech.silva.connectcrm.models.Lead;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Parallel creates of the same email: the unique index decides, exactly one insert wins and every
+ * other caller gets the same conflict a sequential duplicate gets.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UniqueEmailConcurrencyTest {
+
+    private static final int CALLERS = 8;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private LeadService leadService;
+    @Autowired
+    private ClientService clientService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long ownerId;
+
+    @BeforeAll
+    void createOwner() {
+        ownerId = userService.saveUser(new AppUser("Owner", "owner@unique.test", "123456")).getId();
+    }
+
+    @Test
+    void onlyOneOfConcurrentUserRegistrationsWins() throws Exception {
+        Outcome outcome = race(() -> userService.saveUser(new AppUser("Racer", "racer@unique.test", "123456")));
+
+        assertEquals(1, outcome.created());
+        assertEquals(CALLERS - 1, outcome.conflicts());
+        assertEquals(1, countRows("users", "racer@unique.test"));
+    }
+
+    @Test
+    void onlyOneOfConcurrentLeadCreatesWins() throws Exception {
+        Outcome outcome = race(() -> leadService.saveLead(
+                new Lead("Racer", "racer-lead@unique.test", "11999999999", "site"), ownerId));
+
+        assertEquals(1, outcome.created());
+        assertEquals(CALLERS - 1, outcome.conflicts());
+        assertEquals(1, countRows("leads", "racer-lead@unique.test"));
+    }
+
+    @Test
+    void onlyOneOfConcurrentClientCreatesWins() throws Exception {
+        Outcome outcome = race(() -> clientService.saveClient(
+                new Client("Racer", "racer-client@unique.test", "11999999999", "12345678900", "Street 1"), ownerId));
+
+        assertEquals(1, outcome.created());
+        assertEquals(CALLERS - 1, outcome.conflicts());
+        assertEquals(1, countRows("clients", "racer-client@unique.test"));
+    }
+
+    /**
+     * Runs {@code create} from {@value #CALLERS} threads released at the same time, each signed in
+     * as the owner so auditing can fill in the row. Anything other than a success or a
+     * {@link UniqueUserViolationException} fails the test.
+     */
+    private Outcome race(Callable<?> create) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++)
+                results.add(executor.submit(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken("owner@unique.test", null, List.of()));
+                    start.await();
+                    try {
+                        create.call();
+                        return true;
+                    } catch (UniqueUserViolationException ex) {
+                        return false;
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            start.countDown();
+
+            int created = 0;
+            for (Future<Boolean> result : results)
+                if (result.get())
+                    created++;
+            return new Outcome(created, CALLERS - created);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int countRows(String table, String email) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE email = ?", Integer.class, email);
+    }
+
+    private record Outcome(int created, int conflicts) {
+    }
+}